@@ -0,0 +1,4 @@
+@echo off
+rem Build the JMH benchmarks and export results as JSON to target\jmh-result.json
+rem Extra JMH options can be passed through, e.g. bench.bat SortingBenchmark -p size=1000
+mvn -P benchmark package -DskipTests && java -jar target\benchmarks.jar -rf json -rff target\jmh-result.json %*
@@ -0,0 +1,76 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.SearchingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reconciling a supplier feed of ISBNs against the catalog: one batched
+ * galloping pass against a binary search per line. A tenth of the feed
+ * lines are ISBNs the catalog does not carry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class BatchSearchBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"1000", "100000", "1000000"})
+    public int feedLines;
+
+    private MyArrayList<Book> byIsbn;
+    private String[] feed;
+    private Book[] feedBooks;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        Book[] array = BenchmarkData.toArray(BenchmarkData.randomCatalog(size, 42L));
+        Arrays.parallelSort(array, Book.BY_ISBN);
+        byIsbn = BenchmarkData.toList(array);
+
+        Random random = new Random(7L);
+        feed = new String[feedLines];
+        feedBooks = new Book[feedLines];
+        for (int i = 0; i < feedLines; i++) {
+            // ISBNs past the catalog size are never generated
+            feed[i] = random.nextInt(10) == 0
+                    ? BenchmarkData.isbn(size + i)
+                    : array[random.nextInt(size)].getIsbn();
+            feedBooks[i] = new Book("", "", feed[i], 0.0, 0);
+        }
+    }
+
+    @Benchmark
+    public Book[] batched() {
+        return SearchingAlgorithms.findBooksByIsbns(byIsbn, feed);
+    }
+
+    @Benchmark
+    public int[] binarySearchEach() {
+        int[] positions = new int[feedLines];
+        for (int i = 0; i < feedLines; i++) {
+            positions[i] = SearchingAlgorithms.binarySearch(byIsbn, feedBooks[i], Book.BY_ISBN);
+        }
+        return positions;
+    }
+}
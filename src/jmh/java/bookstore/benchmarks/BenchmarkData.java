@@ -0,0 +1,222 @@
+package bookstore.benchmarks;
+
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Synthetic catalog generation shared by the JMH benchmarks.
+ * All generators take a seed so every fork sees the same data.
+ */
+public final class BenchmarkData {
+
+    private static final String[] WORDS = {
+        "the", "great", "silent", "river", "house", "of", "shadows", "lost", "garden",
+        "winter", "empire", "stone", "night", "city", "last", "song", "fire", "sea",
+        "golden", "road", "secret", "history", "little", "war", "light", "queen"
+    };
+
+    private static final String[] SURNAMES = {
+        "Smith", "Nguyen", "Garcia", "Muller", "Rossi", "Kowalski", "Tanaka", "Silva",
+        "Brown", "Dubois", "Ivanov", "Kim", "Larsen", "O'Neil", "Patel", "Cohen"
+    };
+
+    /** Number of distinct key values used by the MANY_DUPLICATES distribution */
+    private static final int DUPLICATE_KEYS = 16;
+
+    private BenchmarkData() {}
+
+    /**
+     * Input orderings exercised by the sorting benchmarks
+     */
+    public enum Distribution {
+        RANDOM, SORTED, REVERSE, MANY_DUPLICATES, NEARLY_SORTED
+    }
+
+    /**
+     * Resolve one of the Book comparators by its field name
+     * @param name Name of the constant in {@link Book}, e.g. "BY_TITLE"
+     * @return The matching comparator
+     */
+    public static Comparator<Book> comparator(String name) {
+        switch (name) {
+            case "BY_TITLE":
+                return Book.BY_TITLE;
+            case "BY_AUTHOR":
+                return Book.BY_AUTHOR;
+            case "BY_PRICE_ASC":
+                return Book.BY_PRICE_ASC;
+            case "BY_PRICE_DESC":
+                return Book.BY_PRICE_DESC;
+            case "BY_QUANTITY":
+                return Book.BY_QUANTITY;
+            case "BY_QUANTITY_DESC":
+                return Book.BY_QUANTITY_DESC;
+            case "BY_ISBN":
+                return Book.BY_ISBN;
+            default:
+                throw new IllegalArgumentException("Unknown comparator: " + name);
+        }
+    }
+
+    /**
+     * Generate a catalog of random books with unique ISBNs
+     * @param size Number of books
+     * @param seed Random seed
+     * @return Catalog in generation order
+     */
+    public static MyArrayList<Book> randomCatalog(int size, long seed) {
+        return catalog(size, seed, false);
+    }
+
+    /**
+     * Generate a catalog arranged according to a distribution
+     * @param size Number of books
+     * @param comparator Ordering the distribution is relative to
+     * @param distribution Input ordering
+     * @param seed Random seed
+     * @return Arranged catalog
+     */
+    public static MyArrayList<Book> catalog(int size, Comparator<Book> comparator, Distribution distribution, long seed) {
+        Random random = new Random(seed ^ 0x5DEECE66DL);
+        Book[] books = toArray(catalog(size, seed, distribution == Distribution.MANY_DUPLICATES));
+
+        switch (distribution) {
+            case SORTED:
+                Arrays.sort(books, comparator);
+                break;
+            case REVERSE:
+                Arrays.sort(books, comparator.reversed());
+                break;
+            case NEARLY_SORTED:
+                // Sorted, then about 1% of the positions swapped at random
+                Arrays.sort(books, comparator);
+                for (int swaps = Math.max(1, size / 100); swaps > 0 && size > 1; swaps--) {
+                    int i = random.nextInt(size);
+                    int j = random.nextInt(size);
+                    Book temp = books[i];
+                    books[i] = books[j];
+                    books[j] = temp;
+                }
+                break;
+            default:
+                // RANDOM and MANY_DUPLICATES keep generation order
+                break;
+        }
+
+        return toList(books);
+    }
+
+    /**
+     * Generate a stream of indices in [0, n) following a Zipf distribution,
+     * mapped through a random permutation so hot entries are scattered.
+     * @param n Number of distinct targets
+     * @param count Length of the stream
+     * @param skew Zipf exponent (0.99 is the YCSB default)
+     * @param seed Random seed
+     * @return Stream of indices
+     */
+    public static int[] zipfianIndices(int n, int count, double skew, long seed) {
+        Random random = new Random(seed);
+
+        // Rejection-inversion would avoid the table, but the ranks we need are
+        // bounded by the stream length, so a truncated CDF is enough.
+        int ranks = Math.min(n, 1 << 20);
+        double[] cdf = new double[ranks];
+        double sum = 0;
+        for (int i = 0; i < ranks; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            // Scatter ranks over the whole catalog with a multiplicative hash
+            result[i] = (int) Math.floorMod((long) Math.min(rank, ranks - 1) * 0x9E3779B1L + seed, (long) n);
+        }
+        return result;
+    }
+
+    /**
+     * Copy a list into an array
+     */
+    public static Book[] toArray(MyArrayList<Book> list) {
+        Book[] array = new Book[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Copy an array into a new list
+     */
+    public static MyArrayList<Book> toList(Book[] array) {
+        MyArrayList<Book> list = new MyArrayList<>(array.length);
+        for (Book book : array) {
+            list.add(book);
+        }
+        return list;
+    }
+
+    /**
+     * Generate books in random order
+     */
+    private static MyArrayList<Book> catalog(int size, long seed, boolean manyDuplicates) {
+        Random random = new Random(seed);
+        MyArrayList<Book> books = new MyArrayList<>(size);
+        int words = manyDuplicates ? 2 : WORDS.length;
+        int surnames = manyDuplicates ? 4 : SURNAMES.length;
+
+        for (int i = 0; i < size; i++) {
+            String title;
+            String author;
+            double price;
+            int quantity;
+
+            if (manyDuplicates) {
+                title = WORDS[random.nextInt(words)] + " " + WORDS[random.nextInt(words) + 2] + " "
+                        + random.nextInt(DUPLICATE_KEYS / 4);
+                author = SURNAMES[random.nextInt(surnames)];
+                price = 5.0 + random.nextInt(DUPLICATE_KEYS);
+                quantity = random.nextInt(DUPLICATE_KEYS);
+            } else {
+                StringBuilder sb = new StringBuilder();
+                // Roughly 5% of titles start with a digit, like "1984"
+                if (random.nextInt(20) == 0) {
+                    sb.append(1000 + random.nextInt(9000)).append(' ');
+                }
+                int wordCount = 2 + random.nextInt(4);
+                for (int w = 0; w < wordCount; w++) {
+                    String word = WORDS[random.nextInt(words)];
+                    if (w > 0) {
+                        sb.append(' ');
+                    }
+                    sb.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                }
+                sb.append(' ').append(random.nextInt(1_000_000));
+                title = sb.toString();
+                author = (char) ('A' + random.nextInt(26)) + ". " + SURNAMES[random.nextInt(surnames)];
+                price = Math.round((1.0 + random.nextDouble() * 199.0) * 100) / 100.0;
+                quantity = random.nextInt(500);
+            }
+
+            books.add(new Book(title, author, isbn(i), price, quantity));
+        }
+
+        return books;
+    }
+
+    /**
+     * Deterministic unique 13-digit ISBN for a sequence number
+     */
+    public static String isbn(long sequence) {
+        return String.valueOf(9_780_000_000_000L + (sequence * 7_919L) % 1_000_000_000L * 10 + sequence % 10);
+    }
+}
@@ -0,0 +1,151 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SearchingAlgorithms;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyConcurrentSkipList;
+import bookstore.model.Book;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Title prefix queries served while an import thread inserts new titles:
+ * three reader threads and one writer share either the lock-free
+ * {@link MyConcurrentSkipList} or a title-sorted {@link MyArrayList} guarded
+ * by a monitor, where readers binary-search under the lock and the writer
+ * shifts the tail of the array to insert.
+ *
+ * JMH reports the reader and writer rates separately within each group.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ConcurrentIndexBenchmark {
+
+    private static final int LIMIT = 20;
+
+    /** Length of the query and import streams; a power of two so cursors can be masked */
+    private static final int STREAM_LENGTH = 1 << 12;
+
+    @State(Scope.Group)
+    public static class Indexes {
+        @Param({"100000", "1000000"})
+        public int size;
+
+        MyArrayList<Book> sortedCatalog;
+        String[] prefixes;
+        Book[] imports;
+
+        MyConcurrentSkipList<Book> skipList;
+        MyArrayList<Book> locked;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            sortedCatalog = BenchmarkData.randomCatalog(size, 42L);
+            SortingAlgorithms.timSort(sortedCatalog, Book.BY_TITLE);
+
+            // Two-word prefixes, so each query matches a handful of titles
+            Random random = new Random(7L);
+            prefixes = new String[STREAM_LENGTH];
+            for (int i = 0; i < STREAM_LENGTH; i++) {
+                String[] words = sortedCatalog.get(random.nextInt(size)).getTitle().split(" ");
+                prefixes[i] = words[0] + " " + words[1];
+            }
+            imports = BenchmarkData.toArray(BenchmarkData.randomCatalog(STREAM_LENGTH, 43L));
+        }
+
+        // Fresh indexes each iteration so imports never pile up across iterations
+        @Setup(Level.Iteration)
+        public void build() {
+            skipList = SearchingAlgorithms.buildConcurrentTitleIndex(sortedCatalog);
+            locked = AlgorithmUtils.copyList(sortedCatalog);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int next() {
+            return next++ & (STREAM_LENGTH - 1);
+        }
+    }
+
+    @Benchmark
+    @Group("skipList")
+    @GroupThreads(3)
+    public MyArrayList<Book> skipListPrefix(Indexes indexes, Cursor cursor) {
+        return SearchingAlgorithms.findBooksByTitlePrefix(indexes.skipList, indexes.prefixes[cursor.next()], LIMIT);
+    }
+
+    @Benchmark
+    @Group("skipList")
+    @GroupThreads(1)
+    public void skipListImport(Indexes indexes, Cursor cursor) {
+        indexes.skipList.insert(indexes.imports[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(3)
+    public MyArrayList<Book> lockedPrefix(Indexes indexes, Cursor cursor) {
+        String prefix = indexes.prefixes[cursor.next()];
+        Book probe = new Book(prefix, "", "", 0.0, 0);
+        MyArrayList<Book> result = new MyArrayList<>(LIMIT);
+        synchronized (indexes.locked) {
+            MyArrayList<Book> list = indexes.locked;
+            for (int i = lowerBound(list, probe); i < list.size() && result.size() < LIMIT; i++) {
+                Book book = list.get(i);
+                if (!book.getTitle().regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    break;
+                }
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(1)
+    public void lockedImport(Indexes indexes, Cursor cursor) {
+        Book book = indexes.imports[cursor.next()];
+        synchronized (indexes.locked) {
+            indexes.locked.add(lowerBound(indexes.locked, book), book);
+        }
+    }
+
+    /**
+     * Binary search for the first book not less than the probe by title
+     */
+    private static int lowerBound(MyArrayList<Book> list, Book probe) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Book.BY_TITLE.compare(list.get(mid), probe) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
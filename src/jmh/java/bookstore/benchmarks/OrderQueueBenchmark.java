@@ -0,0 +1,90 @@
+package bookstore.benchmarks;
+
+import bookstore.datastructures.MpscQueue;
+import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Order intake throughput: three producer threads enqueue while one consumer
+ * drains in batches, comparing the lock-free {@link MpscQueue} with a
+ * {@link MyQueue} guarded by a monitor.
+ *
+ * JMH reports the producer and consumer rates separately within each group;
+ * the producer rate is the intake throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OrderQueueBenchmark {
+
+    private static final int BATCH = 256;
+    private static final Object ORDER = new Object();
+
+    @State(Scope.Group)
+    public static class Queues {
+        MpscQueue<Object> mpsc;
+        MyQueue<Object> locked;
+
+        // Fresh queues each iteration so a backlog never carries over
+        @Setup(Level.Iteration)
+        public void setUp() {
+            mpsc = new MpscQueue<>();
+            locked = new MyQueue<>();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ConsumerBuffer {
+        final MyArrayList<Object> batch = new MyArrayList<>(BATCH);
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public void mpscProduce(Queues queues) {
+        queues.mpsc.enqueue(ORDER);
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public int mpscConsume(Queues queues, ConsumerBuffer buffer) {
+        buffer.batch.clear();
+        return queues.mpsc.drainTo(buffer.batch, BATCH);
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(3)
+    public void lockedProduce(Queues queues) {
+        synchronized (queues.locked) {
+            queues.locked.enqueue(ORDER);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(1)
+    public int lockedConsume(Queues queues, ConsumerBuffer buffer) {
+        buffer.batch.clear();
+        synchronized (queues.locked) {
+            return queues.locked.drainTo(buffer.batch, BATCH);
+        }
+    }
+}
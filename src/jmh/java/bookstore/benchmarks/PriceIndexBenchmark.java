@@ -0,0 +1,88 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.SearchingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import bookstore.service.PriceIndex;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Price filters: the sorted {@link PriceIndex} against the full scan in
+ * {@link SearchingAlgorithms#findBooksByPriceRange}. Each invocation asks for
+ * books within a tolerance of the next target price, so the tolerance sets
+ * the number of matches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+@State(Scope.Benchmark)
+public class PriceIndexBenchmark {
+
+    /** Length of the target stream; a power of two so the cursor can be masked */
+    private static final int STREAM_LENGTH = 1 << 12;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"0.0", "0.5"})
+    public double tolerance;
+
+    private MyArrayList<Book> catalog;
+    private PriceIndex priceIndex;
+    private double[] targetPrices;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        catalog = BenchmarkData.randomCatalog(size, 42L);
+        priceIndex = new PriceIndex(catalog);
+
+        Random random = new Random(7L);
+        targetPrices = new double[STREAM_LENGTH];
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            targetPrices[i] = catalog.get(random.nextInt(size)).getPrice();
+        }
+    }
+
+    private int next() {
+        return cursor++ & (STREAM_LENGTH - 1);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> indexRange() {
+        double price = targetPrices[next()];
+        return priceIndex.range(price - tolerance, price + tolerance);
+    }
+
+    @Benchmark
+    public int indexCount() {
+        double price = targetPrices[next()];
+        return priceIndex.count(price - tolerance, price + tolerance);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> indexFirstPage() {
+        double price = targetPrices[next()];
+        return priceIndex.page(price - tolerance, price + tolerance, 0, 20);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> scan() {
+        return SearchingAlgorithms.findBooksByPriceRange(catalog, targetPrices[next()], tolerance);
+    }
+}
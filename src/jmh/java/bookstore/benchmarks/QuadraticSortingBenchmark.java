@@ -0,0 +1,78 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the O(n²) sorts in {@link SortingAlgorithms}, plus
+ * quickSort, whose last-element pivot is quadratic on SORTED and REVERSE
+ * input. Kept apart from {@link SortingBenchmark} because the default sizes
+ * stop at 100k; pass e.g. {@code -p size=1000000} to push further. The
+ * large thread stack lets quickSort recurse once per element on those inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Xss512m"})
+@State(Scope.Benchmark)
+public class QuadraticSortingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"BY_TITLE", "BY_AUTHOR", "BY_PRICE_ASC", "BY_QUANTITY"})
+    public String comparatorName;
+
+    @Param({"RANDOM", "SORTED", "REVERSE", "MANY_DUPLICATES", "NEARLY_SORTED"})
+    public BenchmarkData.Distribution distribution;
+
+    private Comparator<Book> comparator;
+    private MyArrayList<Book> source;
+    private MyArrayList<Book> list;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        comparator = BenchmarkData.comparator(comparatorName);
+        source = BenchmarkData.catalog(size, comparator, distribution, 42L);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        list = AlgorithmUtils.copyList(source);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> insertionSort() {
+        SortingAlgorithms.insertionSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> selectionSort() {
+        SortingAlgorithms.selectionSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> quickSort() {
+        SortingAlgorithms.quickSort(list, comparator);
+        return list;
+    }
+}
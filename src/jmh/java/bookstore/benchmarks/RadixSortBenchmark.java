@@ -0,0 +1,90 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Key-extracting radix sorts against comparator sorts on the numeric book
+ * fields. Every invocation sorts a fresh copy of the generated catalog.
+ *
+ * Note: quickSort degrades to quadratic on the few distinct quantity values,
+ * so only run it on the smaller sizes for QUANTITY.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class RadixSortBenchmark {
+
+    /**
+     * Numeric field to sort by
+     */
+    public enum Key {
+        PRICE,
+        QUANTITY
+    }
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"PRICE", "QUANTITY"})
+    public Key key;
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    public BenchmarkData.Distribution distribution;
+
+    private Comparator<Book> comparator;
+    private MyArrayList<Book> source;
+    private MyArrayList<Book> list;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        comparator = key == Key.PRICE ? Book.BY_PRICE_ASC : Book.BY_QUANTITY;
+        source = BenchmarkData.catalog(size, comparator, distribution, 42L);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        list = AlgorithmUtils.copyList(source);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> radixSort() {
+        if (key == Key.PRICE) {
+            SortingAlgorithms.radixSortByDouble(list, Book::getPrice);
+        } else {
+            SortingAlgorithms.radixSortByInt(list, Book::getQuantityInStock);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> quickSort() {
+        SortingAlgorithms.quickSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> introSort() {
+        SortingAlgorithms.introSort(list, comparator);
+        return list;
+    }
+}
@@ -0,0 +1,102 @@
+package bookstore.benchmarks;
+
+import bookstore.model.Book;
+import bookstore.model.Order;
+import bookstore.service.StockReservations;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reservation throughput under contention. Each operation reserves one copy
+ * of a book and releases it again, so stock never runs out. The striped
+ * ledger is compared with a single stripe and with every call serialised on
+ * one global lock.
+ *
+ * Run with different thread counts to see the scaling, e.g.
+ * {@code java -jar target/benchmarks.jar ReservationBenchmark -t 1}, then
+ * {@code -t 4}, {@code -t 16} and {@code -t 64}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReservationBenchmark {
+
+    /**
+     * Which books the threads compete for
+     */
+    public enum Access {
+        /** Spread over the whole catalog */
+        UNIFORM,
+        /** A handful of bestsellers everyone wants */
+        HOT
+    }
+
+    private static final int CATALOG_SIZE = 4096;
+    private static final int HOT_BOOKS = 4;
+    private static final int STOCK = 1_000_000;
+    private static final Object GLOBAL_LOCK = new Object();
+
+    @State(Scope.Benchmark)
+    public static class Ledger {
+        @Param({"UNIFORM", "HOT"})
+        Access access;
+
+        @Param({"64", "1"})
+        int stripes;
+
+        Book[] books;
+        StockReservations reservations;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            int count = access == Access.HOT ? HOT_BOOKS : CATALOG_SIZE;
+            books = new Book[count];
+            for (int i = 0; i < count; i++) {
+                books[i] = new Book("Title " + i, "Author " + i, BenchmarkData.isbn(i), 10.0, STOCK);
+            }
+            reservations = new StockReservations(stripes);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Customer {
+        Order order;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            order = new Order("Customer", "Address");   // Distinct order id per thread
+            random = new SplittableRandom(order.getOrderId());
+        }
+    }
+
+    @Benchmark
+    public int striped(Ledger ledger, Customer customer) {
+        Book book = ledger.books[customer.random.nextInt(ledger.books.length)];
+        ledger.reservations.reserve(customer.order, book, 1);
+        return ledger.reservations.release(customer.order, book);
+    }
+
+    @Benchmark
+    public int globalLock(Ledger ledger, Customer customer) {
+        Book book = ledger.books[customer.random.nextInt(ledger.books.length)];
+        synchronized (GLOBAL_LOCK) {
+            ledger.reservations.reserve(customer.order, book, 1);
+            return ledger.reservations.release(customer.order, book);
+        }
+    }
+}
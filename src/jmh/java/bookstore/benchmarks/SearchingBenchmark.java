@@ -0,0 +1,308 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SearchingAlgorithms;
+import bookstore.datastructures.EytzingerIndex;
+import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyHashMap;
+import bookstore.datastructures.MyTrie;
+import bookstore.datastructures.TrigramIndex;
+import bookstore.model.Book;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link SearchingAlgorithms}.
+ *
+ * Each invocation looks up the next target of a pre-generated stream, so the
+ * scenario decides how cache-friendly the access pattern is:
+ * HOT_HIT cycles through a handful of targets, HIT picks uniformly over the
+ * whole catalog (cache-cold on large sizes), MISS looks for absent keys and
+ * ZIPFIAN follows a skewed popularity curve.
+ *
+ * The eytzinger* benchmarks search primitive key copies laid out in
+ * breadth-first order; compare them with binarySearch, jumpSearch and
+ * exponentialSearch (ISBN) and interpolationSearchByPrice (price).
+ *
+ * Every sorted copy and index is its own state, so a benchmark builds only
+ * the catalog plus the structures it searches. A 50M catalog alone takes
+ * about 10 GB; the trigram indexes add several more, so run the *Trigram
+ * benchmarks with -p size=1000,100000,1000000,10000000 or raise -Xmx with
+ * -jvmArgsAppend on the command line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+public class SearchingBenchmark {
+
+    /** Length of the target stream; a power of two so the cursor can be masked */
+    private static final int STREAM_LENGTH = 1 << 16;
+
+    /** Number of distinct targets in the HOT_HIT scenario */
+    private static final int HOT_TARGETS = 16;
+
+    /**
+     * Target stream shapes
+     */
+    public enum Scenario {
+        HOT_HIT, HIT, MISS, ZIPFIAN
+    }
+
+    /**
+     * The unsorted catalog and the stream of targets to look up
+     */
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        @Param({"1000", "100000", "1000000", "10000000", "50000000"})
+        int size;
+
+        @Param({"HOT_HIT", "HIT", "MISS", "ZIPFIAN"})
+        Scenario scenario;
+
+        MyArrayList<Book> books;
+        Book[] targetBooks;
+        String[] targetIsbns;
+        String[] targetTitles;
+        String[] targetAuthors;
+        double[] targetPrices;
+        private int cursor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            books = BenchmarkData.randomCatalog(size, 42L);
+
+            targetBooks = new Book[STREAM_LENGTH];
+            targetIsbns = new String[STREAM_LENGTH];
+            targetTitles = new String[STREAM_LENGTH];
+            targetAuthors = new String[STREAM_LENGTH];
+            targetPrices = new double[STREAM_LENGTH];
+
+            Random random = new Random(7L);
+            int[] zipf = scenario == Scenario.ZIPFIAN
+                    ? BenchmarkData.zipfianIndices(size, STREAM_LENGTH, 0.99, 7L)
+                    : null;
+
+            for (int i = 0; i < STREAM_LENGTH; i++) {
+                if (scenario == Scenario.MISS) {
+                    // ISBNs past the catalog size are never generated; prices are whole cents
+                    Book absent = new Book("Zzyzx Unwritten " + i, "Q. Nobody", BenchmarkData.isbn(size + i),
+                            0.005 + random.nextInt(20000) / 100.0, 0);
+                    setTarget(i, absent);
+                    continue;
+                }
+
+                int index;
+                switch (scenario) {
+                    case HOT_HIT:
+                        index = (int) ((long) (i % HOT_TARGETS) * size / HOT_TARGETS);
+                        break;
+                    case ZIPFIAN:
+                        index = zipf[i];
+                        break;
+                    default:
+                        index = random.nextInt(size);
+                }
+                setTarget(i, books.get(index));
+            }
+        }
+
+        private void setTarget(int i, Book book) {
+            targetBooks[i] = book;
+            targetIsbns[i] = book.getIsbn();
+            targetTitles[i] = book.getTitle();
+            targetAuthors[i] = book.getAuthor();
+            targetPrices[i] = book.getPrice();
+        }
+
+        int next() {
+            return cursor++ & (STREAM_LENGTH - 1);
+        }
+    }
+
+    /**
+     * Catalog sorted by ISBN; shares the Book instances with the catalog
+     */
+    @State(Scope.Benchmark)
+    public static class ByIsbn {
+        MyArrayList<Book> books;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            Book[] array = BenchmarkData.toArray(catalog.books);
+            Arrays.parallelSort(array, Book.BY_ISBN);
+            books = BenchmarkData.toList(array);
+        }
+    }
+
+    /**
+     * Catalog sorted by price; shares the Book instances with the catalog
+     */
+    @State(Scope.Benchmark)
+    public static class ByPrice {
+        MyArrayList<Book> books;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            Book[] array = BenchmarkData.toArray(catalog.books);
+            Arrays.parallelSort(array, Book.BY_PRICE_ASC);
+            books = BenchmarkData.toList(array);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IsbnHashMap {
+        MyHashMap<String, Book> index;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            index = SearchingAlgorithms.buildIsbnIndex(catalog.books);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class IsbnEytzinger {
+        EytzingerIndex<Book> index;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            index = SearchingAlgorithms.buildIsbnHashIndex(catalog.books);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PriceEytzinger {
+        EytzingerIndex<Book> index;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            index = SearchingAlgorithms.buildPriceIndex(catalog.books);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TitleTrie {
+        MyTrie<Book> index;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            index = SearchingAlgorithms.buildTitleIndex(catalog.books);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TitleTrigrams {
+        TrigramIndex<Book> index;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            index = SearchingAlgorithms.buildTitleTrigramIndex(catalog.books);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class AuthorTrigrams {
+        TrigramIndex<Book> index;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) {
+            index = SearchingAlgorithms.buildAuthorTrigramIndex(catalog.books);
+        }
+    }
+
+    @Benchmark
+    public int linearSearch(Catalog catalog) {
+        return SearchingAlgorithms.linearSearch(catalog.books, catalog.targetBooks[catalog.next()]);
+    }
+
+    @Benchmark
+    public int binarySearch(Catalog catalog, ByIsbn byIsbn) {
+        return SearchingAlgorithms.binarySearch(byIsbn.books, catalog.targetBooks[catalog.next()], Book.BY_ISBN);
+    }
+
+    @Benchmark
+    public int jumpSearch(Catalog catalog, ByIsbn byIsbn) {
+        return SearchingAlgorithms.jumpSearch(byIsbn.books, catalog.targetBooks[catalog.next()], Book.BY_ISBN);
+    }
+
+    @Benchmark
+    public Book eytzingerFindBookByIsbn(Catalog catalog, IsbnEytzinger isbn) {
+        return SearchingAlgorithms.findBookByIsbn(isbn.index, catalog.targetIsbns[catalog.next()]);
+    }
+
+    @Benchmark
+    public int eytzingerLowerBoundByPrice(Catalog catalog, PriceEytzinger price) {
+        return price.index.lowerBound(AlgorithmUtils.sortableBits(catalog.targetPrices[catalog.next()]));
+    }
+
+    @Benchmark
+    public int exponentialSearch(Catalog catalog, ByIsbn byIsbn) {
+        return SearchingAlgorithms.exponentialSearch(byIsbn.books, catalog.targetBooks[catalog.next()], Book.BY_ISBN);
+    }
+
+    @Benchmark
+    public int interpolationSearchByPrice(Catalog catalog, ByPrice byPrice) {
+        return SearchingAlgorithms.interpolationSearchByPrice(byPrice.books, catalog.targetPrices[catalog.next()]);
+    }
+
+    @Benchmark
+    public int[] interpolationSearchRangeByPrice(Catalog catalog, ByPrice byPrice) {
+        return SearchingAlgorithms.interpolationSearchRangeByPrice(byPrice.books, catalog.targetPrices[catalog.next()]);
+    }
+
+    @Benchmark
+    public int[] exponentialSearchRangeByPrice(Catalog catalog, ByPrice byPrice) {
+        return SearchingAlgorithms.exponentialSearchRange(byPrice.books, catalog.targetBooks[catalog.next()],
+                Book.BY_PRICE_ASC);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> findBooksByTitle(Catalog catalog) {
+        return SearchingAlgorithms.findBooksByTitle(catalog.books, catalog.targetTitles[catalog.next()]);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> findBooksByAuthor(Catalog catalog) {
+        return SearchingAlgorithms.findBooksByAuthor(catalog.books, catalog.targetAuthors[catalog.next()]);
+    }
+
+    @Benchmark
+    public int findBookByIsbn(Catalog catalog) {
+        return SearchingAlgorithms.findBookByIsbn(catalog.books, catalog.targetIsbns[catalog.next()]);
+    }
+
+    @Benchmark
+    public Book findBookByIsbnIndexed(Catalog catalog, IsbnHashMap isbn) {
+        return SearchingAlgorithms.findBookByIsbn(isbn.index, catalog.targetIsbns[catalog.next()]);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> findBooksByTitlePrefix(Catalog catalog, TitleTrie titles) {
+        String title = catalog.targetTitles[catalog.next()];
+        return SearchingAlgorithms.findBooksByTitlePrefix(titles.index, title.substring(0, Math.min(6, title.length())), 10);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> findBooksByTitleTrigram(Catalog catalog, TitleTrigrams titles) {
+        return SearchingAlgorithms.findBooksBySubstring(titles.index, catalog.targetTitles[catalog.next()]);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> findBooksByAuthorTrigram(Catalog catalog, AuthorTrigrams authors) {
+        return SearchingAlgorithms.findBooksBySubstring(authors.index, catalog.targetAuthors[catalog.next()]);
+    }
+}
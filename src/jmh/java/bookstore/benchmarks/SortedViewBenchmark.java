@@ -0,0 +1,93 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyOrderStatisticTree;
+import bookstore.model.Book;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paging a title-sorted view: reading one page from a maintained
+ * {@link MyOrderStatisticTree} against copying and sorting the catalog for
+ * every page, plus the cost of keeping the tree up to date.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+@State(Scope.Benchmark)
+public class SortedViewBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    /** Length of the page stream; a power of two so the cursor can be masked */
+    private static final int STREAM_LENGTH = 1 << 12;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private MyArrayList<Book> catalog;
+    private MyOrderStatisticTree<Book> view;
+    private int[] pageStarts;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        catalog = BenchmarkData.randomCatalog(size, 42L);
+        view = new MyOrderStatisticTree<>(Book.BY_TITLE);
+        for (int i = 0; i < size; i++) {
+            view.insert(catalog.get(i));
+        }
+
+        Random random = new Random(7L);
+        pageStarts = new int[STREAM_LENGTH];
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            pageStarts[i] = random.nextInt(size - PAGE_SIZE);
+        }
+    }
+
+    private int next() {
+        return cursor++ & (STREAM_LENGTH - 1);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> treePage() {
+        int from = pageStarts[next()];
+        return view.range(from, from + PAGE_SIZE);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> sortThenPage() {
+        int from = pageStarts[next()];
+        MyArrayList<Book> sorted = AlgorithmUtils.copyList(catalog);
+        SortingAlgorithms.timSort(sorted, Book.BY_TITLE);
+        MyArrayList<Book> page = new MyArrayList<>(PAGE_SIZE);
+        for (int i = from; i < from + PAGE_SIZE; i++) {
+            page.add(sorted.get(i));
+        }
+        return page;
+    }
+
+    /** Insert and remove the same book, so the tree size stays fixed */
+    @Benchmark
+    public boolean treeInsertRemove() {
+        Book book = catalog.get(pageStarts[next()]);
+        view.insert(book);
+        return view.remove(book);
+    }
+}
@@ -0,0 +1,91 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the O(n log n) sorts in {@link SortingAlgorithms}.
+ * Every invocation sorts a fresh copy of the generated catalog.
+ *
+ * quickSort is benchmarked in {@link QuadraticSortingBenchmark}: its
+ * last-element pivot is quadratic on SORTED and REVERSE input. introSort
+ * is the bounded replacement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SortingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"BY_TITLE", "BY_AUTHOR", "BY_PRICE_ASC", "BY_QUANTITY"})
+    public String comparatorName;
+
+    @Param({"RANDOM", "SORTED", "REVERSE", "MANY_DUPLICATES", "NEARLY_SORTED"})
+    public BenchmarkData.Distribution distribution;
+
+    private Comparator<Book> comparator;
+    private MyArrayList<Book> source;
+    private MyArrayList<Book> list;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        comparator = BenchmarkData.comparator(comparatorName);
+        source = BenchmarkData.catalog(size, comparator, distribution, 42L);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        list = AlgorithmUtils.copyList(source);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> introSort() {
+        SortingAlgorithms.introSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> mergeSort() {
+        SortingAlgorithms.mergeSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> timSort() {
+        SortingAlgorithms.timSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> parallelMergeSort() {
+        SortingAlgorithms.parallelMergeSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> heapSort() {
+        SortingAlgorithms.heapSort(list, comparator);
+        return list;
+    }
+}
@@ -0,0 +1,95 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Multikey quick sort and precomputed sort keys on case-folded titles and
+ * authors against the comparator sorts using {@link Book#BY_TITLE} and
+ * {@link Book#BY_AUTHOR}.
+ * Every invocation sorts a fresh copy of the generated catalog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class StringSortBenchmark {
+
+    /**
+     * String field to sort by
+     */
+    public enum Key {
+        TITLE,
+        AUTHOR
+    }
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"TITLE", "AUTHOR"})
+    public Key key;
+
+    @Param({"RANDOM", "MANY_DUPLICATES"})
+    public BenchmarkData.Distribution distribution;
+
+    private Comparator<Book> comparator;
+    private MyArrayList<Book> source;
+    private MyArrayList<Book> list;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        comparator = key == Key.TITLE ? Book.BY_TITLE : Book.BY_AUTHOR;
+        source = BenchmarkData.catalog(size, comparator, distribution, 42L);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        list = AlgorithmUtils.copyList(source);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> multikeyQuickSort() {
+        if (key == Key.TITLE) {
+            SortingAlgorithms.sortByTitle(list);
+        } else {
+            SortingAlgorithms.sortByAuthor(list);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> sortByKey() {
+        SortingAlgorithms.sortByKey(list, key == Key.TITLE ? Book.TITLE_SORT_KEY : Book.AUTHOR_SORT_KEY);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> introSort() {
+        SortingAlgorithms.introSort(list, comparator);
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Book> mergeSort() {
+        SortingAlgorithms.mergeSort(list, comparator);
+        return list;
+    }
+}
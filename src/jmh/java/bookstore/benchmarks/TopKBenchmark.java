@@ -0,0 +1,71 @@
+package bookstore.benchmarks;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * "Cheapest N books" queries: bounded-heap top-k and introselect against a
+ * full sort of the catalog by {@link Book#BY_PRICE_ASC}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class TopKBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"20", "1000"})
+    public int k;
+
+    @Param({"RANDOM", "SORTED"})
+    public BenchmarkData.Distribution distribution;
+
+    private MyArrayList<Book> source;
+    private MyArrayList<Book> list;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        source = BenchmarkData.catalog(size, Book.BY_PRICE_ASC, distribution, 42L);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        // topK leaves its input alone, but select and the full sort reorder it
+        list = AlgorithmUtils.copyList(source);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> topK() {
+        return SortingAlgorithms.topK(list, k, Book.BY_PRICE_ASC);
+    }
+
+    @Benchmark
+    public Book select() {
+        return SortingAlgorithms.select(list, k - 1, Book.BY_PRICE_ASC);
+    }
+
+    @Benchmark
+    public MyArrayList<Book> fullSort() {
+        SortingAlgorithms.introSort(list, Book.BY_PRICE_ASC);
+        return list;
+    }
+}
@@ -2,6 +2,10 @@ package bookstore;
 
 import java.util.Scanner;
 import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyHashMap;
+import bookstore.datastructures.MyTrie;
+import bookstore.datastructures.TrigramIndex;
+import bookstore.datastructures.MpscQueue;
 import bookstore.datastructures.MyQueue;
 import bookstore.model.Book;
 import bookstore.model.Order;
@@ -10,29 +14,64 @@ import bookstore.algorithms.SearchingAlgorithms;
 import java.util.Comparator;
 import java.util.regex.Pattern;
 import bookstore.algorithms.AlgorithmUtils;
+import bookstore.service.OrderProcessingEngine;
+import bookstore.service.PriceIndex;
+import bookstore.service.StockReservations;
+import bookstore.datastructures.MyBoundedStack;
+import bookstore.datastructures.MyOrderStatisticTree;
 import bookstore.datastructures.MyStack;
 
 public class BookstoreApp {
     private final MyArrayList<Book> inventory;
-    private final MyQueue<Order> pendingOrders;
+    private final MyHashMap<String, Book> isbnIndex;
+    private final MyTrie<Book> titleIndex;
+    private final TrigramIndex<Book> titleTrigrams;
+    private final TrigramIndex<Book> authorTrigrams;
+    private final PriceIndex priceIndex;
+    private final MyOrderStatisticTree<Book> titleView;
+    private final MyOrderStatisticTree<Book> authorView;
+    private final MyOrderStatisticTree<Book> priceView;
+    private final MpscQueue<Order> pendingOrders;
     private final MyArrayList<Order> processedOrders;
-    private final MyStack<Book> browsingHistory;
-    private final MyStack<String> searchHistory;
+    private final StockReservations reservations;
+    private final OrderProcessingEngine orderEngine;
+    private final MyBoundedStack<Book> browsingHistory;
+    private final MyBoundedStack<String> searchHistory;
     private final Scanner scanner;
     
     // Regular expression for author validation - only letters, spaces, hyphens, apostrophes and periods
     private static final Pattern AUTHOR_PATTERN = Pattern.compile("^[a-zA-Z .'-]+$");
     
+    // Maximum number of suggestions returned by the type-ahead title search
+    private static final int TYPE_AHEAD_LIMIT = 10;
+    
+    // Maximum number of entries kept in each history stack; older entries are dropped
+    private static final int HISTORY_LIMIT = 50;
+    
+    // Number of books shown per page when browsing a sorted view
+    private static final int PAGE_SIZE = 10;
+    
     public BookstoreApp() {
         inventory = new MyArrayList<>();
-        pendingOrders = new MyQueue<>();
+        pendingOrders = new MpscQueue<>();
         processedOrders = new MyArrayList<>();
-        browsingHistory = new MyStack<>();
-        searchHistory = new MyStack<>();
+        reservations = new StockReservations();
+        orderEngine = new OrderProcessingEngine(pendingOrders, processedOrders, reservations,
+                                                Runtime.getRuntime().availableProcessors());
+        browsingHistory = new MyBoundedStack<>(HISTORY_LIMIT);
+        searchHistory = new MyBoundedStack<>(HISTORY_LIMIT);
         scanner = new Scanner(System.in);
         
         // Initialize with sample data
         initializeInventory();
+        isbnIndex = SearchingAlgorithms.buildIsbnIndex(inventory);
+        titleIndex = SearchingAlgorithms.buildTitleIndex(inventory);
+        titleTrigrams = SearchingAlgorithms.buildTitleTrigramIndex(inventory);
+        authorTrigrams = SearchingAlgorithms.buildAuthorTrigramIndex(inventory);
+        priceIndex = new PriceIndex(inventory);
+        titleView = buildSortedView(Book.BY_TITLE);
+        authorView = buildSortedView(Book.BY_AUTHOR);
+        priceView = buildSortedView(Book.BY_PRICE_ASC);
         initializeSampleOrders();
         initializeSearchHistory();
     }
@@ -139,7 +178,11 @@ public class BookstoreApp {
                     showSearchHistory();
                     break;
                 case 9:
+                    updateBookPrice();
+                    break;
+                case 10:
                     running = false;
+                    orderEngine.shutdown();
                     System.out.println("Thank you for using the Online Bookstore System. Goodbye!");
                     break;
                 default:
@@ -171,7 +214,8 @@ public class BookstoreApp {
         System.out.println("6. View Orders");
         System.out.println("7. Add New Book to Inventory");
         System.out.println("8. Search History");
-        System.out.println("9. Exit");
+        System.out.println("9. Update Book Price");
+        System.out.println("10. Exit");
         System.out.print("Enter your choice: ");
     }
     
@@ -235,6 +279,7 @@ public class BookstoreApp {
             int bookNumber = getUserChoice();
             
             if (bookNumber == -1) {
+                reservations.releaseAll(order);
                 System.out.println("Order cancelled.");
                 return;
             } else if (bookNumber == 0) {
@@ -281,6 +326,12 @@ public class BookstoreApp {
                     }
                 }
                 
+                // Hold the copies now so another customer cannot take them before processing
+                if (!reservations.reserve(order, selectedBook, quantity)) {
+                    System.out.println("Sorry, the stock changed and there are no longer enough copies. Book not added to order.");
+                    continue;
+                }
+                
                 order.addBook(selectedBook, quantity);
                 System.out.println(quantity + "x \"" + selectedBook.getTitle() + "\" added to order.");
             } else {
@@ -318,6 +369,7 @@ public class BookstoreApp {
                                    " for customer " + pendingOrders.peek().getCustomerName());
             }
         } else {
+            reservations.releaseAll(order);
             System.out.println("Order cancelled.");
         }
     }
@@ -334,9 +386,10 @@ public class BookstoreApp {
         System.out.println("Orders in queue: " + pendingOrders.size());
         System.out.println("Next order to be processed: Order #" + pendingOrders.peek().getOrderId() + 
                           " for customer " + pendingOrders.peek().getCustomerName());
-        System.out.println("The first order that entered the queue will be processed first (FIFO).");
+        System.out.println("Orders are drained in FIFO order and shared between " + 
+                          orderEngine.getWorkerCount() + " worker threads.");
         
-        System.out.print("\nProcess next order? (y/n): ");
+        System.out.print("\nProcess all pending orders? (y/n): ");
         String confirm = scanner.nextLine().trim().toLowerCase();
         
         if (!confirm.equals("y") && !confirm.equals("yes")) {
@@ -344,22 +397,28 @@ public class BookstoreApp {
             return;
         }
         
-        // Dequeue the order
-        Order order = pendingOrders.dequeue();
-        order.setStatus("Processed");
-        processedOrders.add(order);
+        int processedBefore = processedOrders.size();
+        OrderProcessingEngine.Report report = orderEngine.processAll();
         
-        System.out.println("\nOrder processed successfully:");
-        System.out.println(order);
+        System.out.println("\nOrders completed in this run:");
+        for (int i = processedBefore; i < processedOrders.size(); i++) {
+            Order order = processedOrders.get(i);
+            System.out.println("Order #" + order.getOrderId() + " for " + order.getCustomerName() + 
+                              ": " + order.getStatus());
+        }
         
-        // Show queue after processing
-        if (!pendingOrders.isEmpty()) {
-            System.out.println("\nCurrent queue status after processing:");
-            System.out.println("Remaining orders in queue: " + pendingOrders.size());
-            System.out.println("Next order to be processed: Order #" + pendingOrders.peek().getOrderId() + 
-                              " for customer " + pendingOrders.peek().getCustomerName());
-        } else {
+        System.out.println("\nProcessing Statistics:");
+        System.out.println("Orders processed: " + report.getOrdersProcessed());
+        System.out.println("Orders rejected (insufficient stock): " + report.getOrdersRejected());
+        System.out.printf("Elapsed time: %.3f milliseconds\n", report.getElapsedNanos() / 1_000_000.0);
+        System.out.printf("Throughput: %.0f orders/second\n", report.getThroughputPerSecond());
+        System.out.printf("Average latency: %.1f microseconds\n", report.getAverageLatencyNanos() / 1_000.0);
+        System.out.printf("Max latency: %.1f microseconds\n", report.getMaxLatencyNanos() / 1_000.0);
+        
+        if (pendingOrders.isEmpty()) {
             System.out.println("\nAll orders have been processed. Queue is now empty.");
+        } else {
+            System.out.println("\nOrders placed during processing remain in queue: " + pendingOrders.size());
         }
     }
     
@@ -369,8 +428,9 @@ public class BookstoreApp {
         System.out.println("2. Search by Author");
         System.out.println("3. Search by ISBN");
         System.out.println("4. Search by Price Range");
-        System.out.println("5. Compare Search Algorithm Performance");
-        System.out.println("6. Back to Main Menu");
+        System.out.println("5. Search by Title Prefix (Type-ahead)");
+        System.out.println("6. Compare Search Algorithm Performance");
+        System.out.println("7. Back to Main Menu");
         
         System.out.print("Enter your choice: ");
         String choice = scanner.nextLine();
@@ -385,14 +445,14 @@ public class BookstoreApp {
                 System.out.print("Enter title to search: ");
                 String title = scanner.nextLine().trim();
                 if (!title.isEmpty()) {
-                    searchMethod = "Title Search";
+                    searchMethod = "Title Search (Trigram Index)";
                     // Save search term to history stack
                     searchHistory.push("Title: " + title);
                     System.out.println("\nAdding search term to history stack...");
                     System.out.println("PUSH operation: \"Title: " + title + "\" added to top of stack");
                     
                     startTime = System.currentTimeMillis();
-                    results = SearchingAlgorithms.findBooksByTitle(inventory, title);
+                    results = SearchingAlgorithms.findBooksBySubstring(titleTrigrams, title);
                     endTime = System.currentTimeMillis();
                 }
                 break;
@@ -401,14 +461,14 @@ public class BookstoreApp {
                 System.out.print("Enter author to search: ");
                 String author = scanner.nextLine().trim();
                 if (!author.isEmpty()) {
-                    searchMethod = "Author Search";
+                    searchMethod = "Author Search (Trigram Index)";
                     // Save search term to history stack
                     searchHistory.push("Author: " + author);
                     System.out.println("\nAdding search term to history stack...");
                     System.out.println("PUSH operation: \"Author: " + author + "\" added to top of stack");
                     
                     startTime = System.currentTimeMillis();
-                    results = SearchingAlgorithms.findBooksByAuthor(inventory, author);
+                    results = SearchingAlgorithms.findBooksBySubstring(authorTrigrams, author);
                     endTime = System.currentTimeMillis();
                 }
                 break;
@@ -417,17 +477,17 @@ public class BookstoreApp {
                 System.out.print("Enter ISBN to search: ");
                 String isbn = scanner.nextLine().trim();
                 if (!isbn.isEmpty()) {
-                    searchMethod = "ISBN Search (Linear)";
+                    searchMethod = "ISBN Search (Hash Index)";
                     // Save search term to history stack
                     searchHistory.push("ISBN: " + isbn);
                     System.out.println("\nAdding search term to history stack...");
                     System.out.println("PUSH operation: \"ISBN: " + isbn + "\" added to top of stack");
                     
                     startTime = System.currentTimeMillis();
-                    int index = SearchingAlgorithms.findBookByIsbn(inventory, isbn);
+                    Book found = findBookByIsbn(isbn);
                     endTime = System.currentTimeMillis();
-                    if (index != -1) {
-                        results.add(inventory.get(index));
+                    if (found != null) {
+                        results.add(found);
                     }
                 }
                 break;
@@ -439,7 +499,7 @@ public class BookstoreApp {
                     System.out.print("Enter price tolerance range: ");
                     double tolerance = Double.parseDouble(scanner.nextLine());
                     if (price >= 0 && tolerance >= 0) {
-                        searchMethod = "Price Range Search";
+                        searchMethod = "Price Range Search (Sorted Price Index)";
                         // Save search term to history stack
                         String priceSearch = "Price: $" + price + " ±$" + tolerance;
                         searchHistory.push(priceSearch);
@@ -447,7 +507,7 @@ public class BookstoreApp {
                         System.out.println("PUSH operation: \"" + priceSearch + "\" added to top of stack");
                         
                         startTime = System.currentTimeMillis();
-                        results = SearchingAlgorithms.findBooksByPriceRange(inventory, price, tolerance);
+                        results = findBooksNearPrice(price, tolerance);
                         endTime = System.currentTimeMillis();
                     } else {
                         System.out.println("Price and tolerance must be non-negative.");
@@ -458,10 +518,26 @@ public class BookstoreApp {
                 break;
                 
             case "5":
+                System.out.print("Enter beginning of title: ");
+                String prefix = scanner.nextLine().trim();
+                if (!prefix.isEmpty()) {
+                    searchMethod = "Title Prefix Search (Trie)";
+                    // Save search term to history stack
+                    searchHistory.push("Prefix: " + prefix);
+                    System.out.println("\nAdding search term to history stack...");
+                    System.out.println("PUSH operation: \"Prefix: " + prefix + "\" added to top of stack");
+                    
+                    startTime = System.currentTimeMillis();
+                    results = SearchingAlgorithms.findBooksByTitlePrefix(titleIndex, prefix, TYPE_AHEAD_LIMIT);
+                    endTime = System.currentTimeMillis();
+                }
+                break;
+                
+            case "6":
                 compareSearchAlgorithms();
                 return;
                 
-            case "6":
+            case "7":
                 return;
                 
             default:
@@ -532,7 +608,7 @@ public class BookstoreApp {
         
         // Create a sorted copy of the inventory for binary and jump search
         MyArrayList<Book> sortedInventory = AlgorithmUtils.copyList(inventory);
-        SortingAlgorithms.quickSort(sortedInventory, Book.BY_TITLE);
+        SortingAlgorithms.introSort(sortedInventory, Book.BY_TITLE);
         
         // Get a random book from the inventory for search target
         int randomIndex = (int) (Math.random() * inventory.size());
@@ -557,6 +633,11 @@ public class BookstoreApp {
         int jumpResult = SearchingAlgorithms.jumpSearch(sortedInventory, targetBook);
         long jumpTime = System.currentTimeMillis() - startTime;
         
+        // Test exponential search on sorted list
+        startTime = System.currentTimeMillis();
+        int exponentialResult = SearchingAlgorithms.exponentialSearch(sortedInventory, targetBook);
+        long exponentialTime = System.currentTimeMillis() - startTime;
+        
         // Display results
         System.out.println("\nSearch Results:");
         System.out.println("-".repeat(85));
@@ -573,6 +654,9 @@ public class BookstoreApp {
         System.out.printf("| %-15s | %-15d | %-20d | %-25s |\n", 
                           "Jump Search", jumpResult, jumpTime, "O(√n)");
         
+        System.out.printf("| %-15s | %-15d | %-20d | %-25s |\n", 
+                          "Exponential", exponentialResult, exponentialTime, "O(log i)");
+        
         System.out.println("-".repeat(85));
         
         // Analysis
@@ -598,6 +682,13 @@ public class BookstoreApp {
         System.out.println("   - Better than linear search but not as good as binary search");
         System.out.println("   - Advantage over binary: Better for data stored on external storage");
         
+        System.out.println("\n4. Exponential Search:");
+        System.out.println("   - Doubles the step from the start until it passes the target, then binary searches");
+        System.out.println("   - Time Complexity: O(log i) - i is the position of the target");
+        System.out.println("   - Requires sorted data");
+        System.out.println("   - Never worse than binary search by more than a factor of two");
+        System.out.println("   - Best when targets tend to be near the front or the list size is unknown");
+        
         // Note about real-world behavior
         System.out.println("\nNote: For small datasets, time differences may not be significant.");
         System.out.println("In real applications with large datasets (millions of items), the theoretical time complexity becomes more important.");
@@ -620,26 +711,33 @@ public class BookstoreApp {
         
         String sortProperty = "";
         Comparator<Book> comparator = null;
+        MyOrderStatisticTree<Book> sortedView = null;   // Maintained view, if this order has one
+        boolean descending = false;
         
         switch (choice) {
             case "1": // Sort by Title
                 sortProperty = "Title";
                 comparator = Book.BY_TITLE;
+                sortedView = titleView;
                 break;
                 
             case "2": // Sort by Author
                 sortProperty = "Author";
                 comparator = Book.BY_AUTHOR;
+                sortedView = authorView;
                 break;
                 
             case "3": // Sort by Price (Low-High)
                 sortProperty = "Price (Low-High)";
                 comparator = Book.BY_PRICE_ASC;
+                sortedView = priceView;
                 break;
                 
             case "4": // Sort by Price (High-Low)
                 sortProperty = "Price (High-Low)";
                 comparator = Book.BY_PRICE_DESC;
+                sortedView = priceView;
+                descending = true;
                 break;
                 
             case "5": // Sort by Quantity (Low-High)
@@ -676,17 +774,35 @@ public class BookstoreApp {
                 System.out.println("2. Selection Sort");
                 System.out.println("3. Quick Sort (Efficient for text)");
                 System.out.println("4. Merge Sort (Stable sorting for text)");
+                System.out.println("6. TimSort (Fastest when nearly sorted)");
+                System.out.println("7. String Quick Sort (Fastest for large text data)");
+                System.out.println("8. Show First N Only (No full sort)");
             } else {
                 System.out.println("1. Insertion Sort");
                 System.out.println("2. Selection Sort");
                 System.out.println("3. Quick Sort (Recommended for numbers)");
                 System.out.println("4. Merge Sort");
                 System.out.println("5. Heap Sort (Efficient for numeric data)");
+                System.out.println("6. TimSort (Fastest when nearly sorted)");
+                System.out.println("7. Radix Sort (Fastest for large numeric data)");
+                System.out.println("8. Show First N Only (No full sort)");
+            }
+            if (sortedView != null) {
+                System.out.println("9. Page Through Sorted View (No sort)");
             }
             
             System.out.print("Enter algorithm choice: ");
             String algoChoice = scanner.nextLine();
             
+            if (algoChoice.equals("8")) {
+                showFirstBooks(comparator, sortProperty);
+                return;
+            }
+            if (algoChoice.equals("9") && sortedView != null) {
+                browseSortedView(sortedView, descending, sortProperty);
+                return;
+            }
+            
             long executionTime = applySortingAlgorithm(sortedInventory, comparator, algoChoice, sortProperty);
             
             // Display results
@@ -701,6 +817,81 @@ public class BookstoreApp {
         }
     }
     
+    /**
+     * Show only the first N books in sort order, e.g. the 20 cheapest, without sorting the whole inventory
+     */
+    private void showFirstBooks(Comparator<Book> comparator, String sortProperty) {
+        System.out.print("How many books to show: ");
+        int count = getUserChoice();
+        if (count <= 0) {
+            System.out.println("Invalid number of books.");
+            return;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        MyArrayList<Book> firstBooks = SortingAlgorithms.topK(inventory, count, comparator);
+        long executionTime = System.currentTimeMillis() - startTime;
+        
+        System.out.println("\nFirst " + firstBooks.size() + " Books by " + sortProperty + ":");
+        displayBookList(firstBooks);
+        
+        System.out.println("\nAlgorithm Performance:");
+        System.out.println("Algorithm: Top-K (Bounded Heap)");
+        System.out.println("Time Complexity: O(n log k) - only k books are kept in order");
+        System.out.println("Execution Time: " + executionTime + " milliseconds");
+        System.out.println("Data Size: " + inventory.size() + " books");
+    }
+    
+    /**
+     * Page through a maintained sorted view. Each page is read straight from the
+     * order-statistic tree in O(log n + page size), so nothing is copied or sorted.
+     */
+    private void browseSortedView(MyOrderStatisticTree<Book> view, boolean descending, String sortProperty) {
+        int size = view.size();
+        int pageCount = Math.max((size + PAGE_SIZE - 1) / PAGE_SIZE, 1);
+        int page = 0;
+        
+        while (true) {
+            int from = page * PAGE_SIZE;
+            int to = Math.min(from + PAGE_SIZE, size);
+            MyArrayList<Book> books;
+            if (descending) {
+                // Read the mirrored ascending range and reverse it
+                MyArrayList<Book> ascending = view.range(size - to, size - from);
+                books = new MyArrayList<>(ascending.size());
+                for (int i = ascending.size() - 1; i >= 0; i--) {
+                    books.add(ascending.get(i));
+                }
+            } else {
+                books = view.range(from, to);
+            }
+            
+            System.out.println("\nBooks by " + sortProperty + " - Page " + (page + 1) + " of " + pageCount
+                               + " (" + size + " books):");
+            displayBookList(books);
+            
+            System.out.print("\n[N]ext page, [P]revious page, [Q]uit: ");
+            String action = scanner.nextLine().trim().toUpperCase();
+            if (action.equals("N")) {
+                if (page + 1 < pageCount) {
+                    page++;
+                } else {
+                    System.out.println("Already on the last page.");
+                }
+            } else if (action.equals("P")) {
+                if (page > 0) {
+                    page--;
+                } else {
+                    System.out.println("Already on the first page.");
+                }
+            } else if (action.equals("Q")) {
+                return;
+            } else {
+                System.out.println("Invalid choice.");
+            }
+        }
+    }
+    
     private long applySortingAlgorithm(MyArrayList<Book> list, Comparator<Book> comparator, String algoChoice, String sortProperty) {
         String algorithmName = "";
         boolean isTextSorting = sortProperty.equals("Title") || sortProperty.equals("Author");
@@ -745,6 +936,30 @@ public class BookstoreApp {
                     SortingAlgorithms.quickSort(list, comparator);
                 }
                 break;
+            case "6":
+                algorithmName = "TimSort";
+                System.out.println("Using " + algorithmName + " (adapts to existing order, stable)");
+                SortingAlgorithms.timSort(list, comparator);
+                break;
+            case "7":
+                if (isTextSorting) {
+                    algorithmName = "String Quick Sort";
+                    System.out.println("Using " + algorithmName + " (case folded once per book)");
+                    if (sortProperty.equals("Title")) {
+                        SortingAlgorithms.sortByTitle(list);
+                    } else {
+                        SortingAlgorithms.sortByAuthor(list);
+                    }
+                    break;
+                }
+                algorithmName = "Radix Sort";
+                System.out.println("Using " + algorithmName + " (no comparisons, numeric keys)");
+                if (sortProperty.startsWith("Price")) {
+                    SortingAlgorithms.radixSortByDouble(list, Book::getPrice, comparator == Book.BY_PRICE_DESC);
+                } else {
+                    SortingAlgorithms.radixSortByInt(list, Book::getQuantityInStock, comparator == Book.BY_QUANTITY_DESC);
+                }
+                break;
             default:
                 algorithmName = "Quick Sort (Default)";
                 System.out.println("Invalid algorithm choice. Using " + algorithmName);
@@ -776,6 +991,12 @@ public class BookstoreApp {
                 return "O(n log n) in all cases";
             case "Heap Sort":
                 return "O(n log n) in all cases";
+            case "TimSort":
+                return "O(n log n) worst case, O(n) for sorted or nearly sorted data";
+            case "Radix Sort":
+                return "O(n) - one pass per key byte";
+            case "String Quick Sort":
+                return "O(n log n) average case, shared prefixes compared once";
             default:
                 return "Unknown";
         }
@@ -796,6 +1017,12 @@ public class BookstoreApp {
                 return "O(n) for auxiliary array";
             case "Heap Sort":
                 return "O(1) - in-place sort";
+            case "TimSort":
+                return "O(n) for merge buffer";
+            case "Radix Sort":
+                return "O(n) for key and element buffers";
+            case "String Quick Sort":
+                return "O(n) for folded keys";
             default:
                 return "Unknown";
         }
@@ -987,7 +1214,7 @@ public class BookstoreApp {
             
             // Create a copy of the processed orders for sorting and display
             MyArrayList<Order> sortedOrders = AlgorithmUtils.copyList(processedOrders);
-            SortingAlgorithms.quickSort(sortedOrders, Order.BY_ORDER_ID);
+            SortingAlgorithms.introSort(sortedOrders, Order.BY_ORDER_ID);
             
             for (int i = 0; i < sortedOrders.size(); i++) {
                 System.out.println("\n--- ORDER " + (i + 1) + " ---");
@@ -1077,7 +1304,7 @@ public class BookstoreApp {
         }
         
         // Check if ISBN already exists
-        if (SearchingAlgorithms.findBookByIsbn(inventory, isbn) != -1) {
+        if (isbnIndex.containsKey(isbn)) {
             System.out.println("A book with this ISBN already exists.");
             return;
         }
@@ -1090,6 +1317,10 @@ public class BookstoreApp {
                 System.out.println("Price cannot be negative.");
                 return;
             }
+            if (!Double.isFinite(price)) {
+                System.out.println("Price must be a finite number.");
+                return;
+            }
         } catch (NumberFormatException e) {
             System.out.println("Invalid price format.");
             return;
@@ -1110,7 +1341,7 @@ public class BookstoreApp {
         
         // Add new book to inventory
         Book newBook = new Book(title, author, isbn, price, quantity);
-        inventory.add(newBook);
+        addToInventory(newBook);
         
         System.out.println("\nBook added successfully:");
         MyArrayList<Book> result = new MyArrayList<>();
@@ -1118,6 +1349,86 @@ public class BookstoreApp {
         displayBookList(result);
     }
     
+    // Helper method to add a book to the inventory and keep the indexes in sync
+    private void addToInventory(Book book) {
+        inventory.add(book);
+        isbnIndex.put(book.getIsbn(), book);
+        titleIndex.insert(book.getTitle(), book);
+        titleTrigrams.add(book);
+        authorTrigrams.add(book);
+        priceIndex.add(inventory.size() - 1);
+        titleView.insert(book);
+        authorView.insert(book);
+        priceView.insert(book);
+    }
+    
+    private void updateBookPrice() {
+        System.out.println("\n===== UPDATE BOOK PRICE =====");
+        
+        System.out.print("Enter ISBN: ");
+        Book book = findBookByIsbn(scanner.nextLine().trim());
+        if (book == null) {
+            System.out.println("No book with this ISBN.");
+            return;
+        }
+        System.out.println("Current price of \"" + book.getTitle() + "\": $" + String.format("%.2f", book.getPrice()));
+        
+        System.out.print("Enter New Price: ");
+        double price;
+        try {
+            price = Double.parseDouble(scanner.nextLine());
+            if (price < 0) {
+                System.out.println("Price cannot be negative.");
+                return;
+            }
+            if (!Double.isFinite(price)) {
+                System.out.println("Price must be a finite number.");
+                return;
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid price format.");
+            return;
+        }
+        
+        repriceBook(book, price);
+        System.out.println("\nPrice updated:");
+        MyArrayList<Book> result = new MyArrayList<>();
+        result.add(book);
+        displayBookList(result);
+    }
+    
+    // Change a price in place: the book leaves every price-keyed structure
+    // first and goes back in afterwards, while the ISBN, title and author
+    // indexes, queued orders and reservations keep the same object
+    void repriceBook(Book book, double newPrice) {
+        priceView.remove(book);
+        try {
+            priceIndex.reprice(inventory.indexOf(book), newPrice);
+        } finally {
+            // Back at the new price, or at the old one if the price was rejected
+            priceView.insert(book);
+        }
+    }
+    
+    // Helper method to look a book up through the ISBN index
+    Book findBookByIsbn(String isbn) {
+        return SearchingAlgorithms.findBookByIsbn(isbnIndex, isbn);
+    }
+    
+    // Helper method to find books within a price tolerance through the price index
+    MyArrayList<Book> findBooksNearPrice(double price, double tolerance) {
+        return priceIndex.near(price, tolerance);
+    }
+    
+    // Helper method to build an always-sorted view of the inventory
+    private MyOrderStatisticTree<Book> buildSortedView(Comparator<Book> comparator) {
+        MyOrderStatisticTree<Book> view = new MyOrderStatisticTree<>(comparator);
+        for (int i = 0; i < inventory.size(); i++) {
+            view.insert(inventory.get(i));
+        }
+        return view;
+    }
+    
     // Helper method to truncate long strings for display
     private String truncateString(String str, int maxLength) {
         if (str.length() <= maxLength) {
@@ -1285,16 +1596,19 @@ public class BookstoreApp {
         // Parse the search term to extract type and value
         if (searchTerm.startsWith("Title: ")) {
             String title = searchTerm.substring(7);
-            results = SearchingAlgorithms.findBooksByTitle(inventory, title);
+            results = SearchingAlgorithms.findBooksBySubstring(titleTrigrams, title);
         } else if (searchTerm.startsWith("Author: ")) {
             String author = searchTerm.substring(8);
-            results = SearchingAlgorithms.findBooksByAuthor(inventory, author);
+            results = SearchingAlgorithms.findBooksBySubstring(authorTrigrams, author);
         } else if (searchTerm.startsWith("ISBN: ")) {
             String isbn = searchTerm.substring(6);
-            int index = SearchingAlgorithms.findBookByIsbn(inventory, isbn);
-            if (index != -1) {
-                results.add(inventory.get(index));
+            Book found = findBookByIsbn(isbn);
+            if (found != null) {
+                results.add(found);
             }
+        } else if (searchTerm.startsWith("Prefix: ")) {
+            String prefix = searchTerm.substring(8);
+            results = SearchingAlgorithms.findBooksByTitlePrefix(titleIndex, prefix, TYPE_AHEAD_LIMIT);
         } else if (searchTerm.startsWith("Price: ")) {
             // Price search format: "Price: $X.XX ±$Y.YY"
             try {
@@ -1304,7 +1618,7 @@ public class BookstoreApp {
                 double price = Double.parseDouble(priceStr);
                 double tolerance = Double.parseDouble(toleranceStr);
                 
-                results = SearchingAlgorithms.findBooksByPriceRange(inventory, price, tolerance);
+                results = findBooksNearPrice(price, tolerance);
             } catch (Exception e) {
                 System.out.println("Error parsing price search term");
             }
@@ -1332,7 +1646,7 @@ public class BookstoreApp {
             
             System.out.println("\nPerforming Stack CLEAR operations...");
             
-            // Use the clear method from MyStack
+            // Use the clear method from MyBoundedStack
             searchHistory.clear();
             browsingHistory.clear();
             
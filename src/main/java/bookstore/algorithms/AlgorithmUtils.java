@@ -26,6 +26,29 @@ public class AlgorithmUtils {
         return (a, b) -> comparator.compare(b, a);
     }
     
+    /**
+     * Case-fold a string the way String.compareToIgnoreCase does, so comparing
+     * the folded characters gives the same order as String.CASE_INSENSITIVE_ORDER
+     * @param text String to fold
+     * @return Folded characters
+     */
+    public static char[] foldCase(String text) {
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldCase(text.charAt(i));
+        }
+        return folded;
+    }
+    
+    /**
+     * Case-fold one character the way String.compareToIgnoreCase does
+     * @param c Character to fold
+     * @return Folded character
+     */
+    public static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+    
     /**
      * Swap two elements in an array list
      * @param list List containing elements
@@ -50,4 +73,29 @@ public class AlgorithmUtils {
         }
         return copy;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Write the elements of an array back over the start of a list,
+     * e.g. after sorting a copy made with {@link MyArrayList#toArray()}
+     * @param array Array holding elements of type T
+     * @param list List to overwrite; must be at least as long as the array
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void copyInto(Object[] array, MyArrayList<T> list) {
+        for (int i = 0; i < array.length; i++) {
+            list.set(i, (T) array[i]);
+        }
+    }
+    
+    /**
+     * Map a double to a long whose signed order matches {@link Double#compare}:
+     * -0.0 before 0.0 and NaN after positive infinity
+     * @param value Value to map
+     * @return Order-preserving long key
+     */
+    public static long sortableBits(double value) {
+        // Negative doubles order backwards as integers, so flip their magnitude bits
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,372 @@
+package bookstore.algorithms;
+
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * External merge sort for record files larger than the heap.
+ * The input is read one line per record and sorted in chunks of a fixed
+ * number of records with {@link SortingAlgorithms#timSort}; each sorted chunk
+ * is spilled to a temporary run file. The runs are then merged through a
+ * min-heap holding the current record of every open run, in several passes
+ * if there are more runs than may be open at once. Only one chunk plus one
+ * record per open run is ever held in memory.
+ * Equal records keep their input order, so the sort is stable.
+ * @param <T> Type of records being sorted
+ */
+public class ExternalMergeSort<T> {
+    public static final int DEFAULT_CHUNK_SIZE = 1_000_000;
+    public static final int DEFAULT_MAX_FAN_IN = 128;
+    
+    private static final int INITIAL_CHUNK_CAPACITY = 1 << 16;
+    
+    private final RecordCodec<T> codec;
+    private final Comparator<T> comparator;
+    private final int chunkSize;
+    private final int maxFanIn;
+    
+    /**
+     * Converts between records and the single line that stores each one
+     * @param <T> Type of records
+     */
+    public interface RecordCodec<T> {
+        /**
+         * Parse a record from a line (without line terminator)
+         * @param line Line to parse
+         * @return The record
+         */
+        T decode(String line);
+        
+        /**
+         * Format a record as a single line (without line terminator)
+         * @param record Record to format
+         * @return The line
+         */
+        String encode(T record);
+    }
+    
+    /**
+     * Codec for plain text files: every line is a record
+     */
+    public static final RecordCodec<String> LINES = new RecordCodec<String>() {
+        @Override
+        public String decode(String line) {
+            return line;
+        }
+        
+        @Override
+        public String encode(String record) {
+            return record;
+        }
+    };
+    
+    /**
+     * Codec for catalog exports: title,author,isbn,price,quantity with
+     * fields quoted when they contain commas or quotes
+     */
+    public static final RecordCodec<Book> BOOK_CSV = new RecordCodec<Book>() {
+        @Override
+        public Book decode(String line) {
+            String[] fields = parseCsv(line, 5);
+            try {
+                return new Book(fields[0], fields[1], fields[2],
+                                Double.parseDouble(fields[3]), Integer.parseInt(fields[4]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number in line: " + line, e);
+            }
+        }
+        
+        @Override
+        public String encode(Book book) {
+            return quoteCsv(book.getTitle()) + ',' + quoteCsv(book.getAuthor()) + ','
+                   + quoteCsv(book.getIsbn()) + ',' + book.getPrice() + ',' + book.getQuantityInStock();
+        }
+    };
+    
+    /**
+     * Constructor with the default chunk size and fan-in
+     * @param codec Converts records to and from lines
+     * @param comparator Comparator for record comparison
+     */
+    public ExternalMergeSort(RecordCodec<T> codec, Comparator<T> comparator) {
+        this(codec, comparator, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_FAN_IN);
+    }
+    
+    /**
+     * Constructor
+     * @param codec Converts records to and from lines
+     * @param comparator Comparator for record comparison
+     * @param chunkSize Number of records sorted in memory at a time
+     * @param maxFanIn Maximum number of runs merged (and files open) at once
+     */
+    public ExternalMergeSort(RecordCodec<T> codec, Comparator<T> comparator, int chunkSize, int maxFanIn) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2: " + maxFanIn);
+        }
+        this.codec = codec;
+        this.comparator = comparator;
+        this.chunkSize = chunkSize;
+        this.maxFanIn = maxFanIn;
+    }
+    
+    /**
+     * Sort a file, keeping run files in the system temporary directory
+     * @param input File to read, one record per line
+     * @param output File to write the sorted records to (replaced if it exists)
+     * @return Number of records sorted
+     * @throws IOException if a file cannot be read or written
+     */
+    public long sort(Path input, Path output) throws IOException {
+        Path tempDirectory = Files.createTempDirectory("external-sort");
+        try {
+            return sort(input, output, tempDirectory);
+        } finally {
+            Files.deleteIfExists(tempDirectory);
+        }
+    }
+    
+    /**
+     * Sort a file
+     * @param input File to read, one record per line
+     * @param output File to write the sorted records to (replaced if it exists)
+     * @param tempDirectory Existing directory for run files; they are deleted before returning
+     * @return Number of records sorted
+     * @throws IOException if a file cannot be read or written
+     */
+    public long sort(Path input, Path output, Path tempDirectory) throws IOException {
+        MyArrayList<Path> tempFiles = new MyArrayList<>();   // Every run created, for cleanup
+        MyArrayList<Path> runs = new MyArrayList<>();
+        try {
+            long count = 0;
+            MyArrayList<T> chunk = new MyArrayList<>(Math.min(chunkSize, INITIAL_CHUNK_CAPACITY));
+            
+            // Phase 1: sort chunks in memory and spill them as runs
+            try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    chunk.add(codec.decode(line));
+                    count++;
+                    if (chunk.size() == chunkSize) {
+                        runs.add(spill(chunk, tempDirectory, tempFiles));
+                        chunk.clear();
+                    }
+                }
+            }
+            
+            if (runs.isEmpty()) {
+                // Everything fit in one chunk - no merge needed
+                SortingAlgorithms.timSort(chunk, comparator);
+                writeChunk(chunk, output);
+                return count;
+            }
+            if (!chunk.isEmpty()) {
+                runs.add(spill(chunk, tempDirectory, tempFiles));
+            }
+            chunk = null;   // Let the last chunk be collected before merging
+            
+            // Phase 2: merge groups of runs until one merge can produce the output
+            while (runs.size() > maxFanIn) {
+                MyArrayList<Path> merged = new MyArrayList<>();
+                for (int start = 0; start < runs.size(); start += maxFanIn) {
+                    int end = Math.min(start + maxFanIn, runs.size());
+                    Path run = Files.createTempFile(tempDirectory, "run", ".txt");
+                    tempFiles.add(run);
+                    merged.add(run);
+                    merge(runs, start, end, run);
+                    for (int i = start; i < end; i++) {
+                        Files.deleteIfExists(runs.get(i));
+                    }
+                }
+                runs = merged;
+            }
+            merge(runs, 0, runs.size(), output);
+            return count;
+        } finally {
+            for (int i = 0; i < tempFiles.size(); i++) {
+                Files.deleteIfExists(tempFiles.get(i));
+            }
+        }
+    }
+    
+    /**
+     * Sort a chunk and write it to a new run file
+     */
+    private Path spill(MyArrayList<T> chunk, Path tempDirectory, MyArrayList<Path> tempFiles) throws IOException {
+        SortingAlgorithms.timSort(chunk, comparator);
+        Path run = Files.createTempFile(tempDirectory, "run", ".txt");
+        tempFiles.add(run);
+        writeChunk(chunk, run);
+        return run;
+    }
+    
+    private void writeChunk(MyArrayList<T> chunk, Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < chunk.size(); i++) {
+                writer.write(codec.encode(chunk.get(i)));
+                writer.write('\n');
+            }
+        }
+    }
+    
+    /**
+     * K-way merge of runs[start, end) into target.
+     * The heap holds run numbers ordered by each run's current record, with
+     * ties going to the earlier run so equal records keep their input order.
+     * Lines are copied through unchanged; records are only decoded to compare.
+     */
+    private void merge(MyArrayList<Path> runs, int start, int end, Path target) throws IOException {
+        int k = end - start;
+        BufferedReader[] readers = new BufferedReader[k];
+        String[] lines = new String[k];
+        Object[] records = new Object[k];
+        int[] heap = new int[k];
+        int heapSize = 0;
+        
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            for (int run = 0; run < k; run++) {
+                readers[run] = Files.newBufferedReader(runs.get(start + run), StandardCharsets.UTF_8);
+                lines[run] = readers[run].readLine();
+                if (lines[run] != null) {
+                    records[run] = codec.decode(lines[run]);
+                    heap[heapSize++] = run;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i, records);
+            }
+            
+            while (heapSize > 0) {
+                int run = heap[0];
+                writer.write(lines[run]);
+                writer.write('\n');
+                
+                lines[run] = readers[run].readLine();
+                if (lines[run] == null) {
+                    // Run exhausted: move the last heap entry to the root
+                    records[run] = null;
+                    heap[0] = heap[--heapSize];
+                } else {
+                    records[run] = codec.decode(lines[run]);
+                }
+                siftDown(heap, heapSize, 0, records);
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Restore the min-heap property below position i
+     */
+    private void siftDown(int[] heap, int heapSize, int i, Object[] records) {
+        int run = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && less(heap[child + 1], heap[child], records)) {
+                child++;
+            }
+            if (!less(heap[child], run, records)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+    
+    /**
+     * Order runs by their current record, then by run number for stability
+     */
+    @SuppressWarnings("unchecked")
+    private boolean less(int runA, int runB, Object[] records) {
+        int cmp = comparator.compare((T) records[runA], (T) records[runB]);
+        return cmp < 0 || (cmp == 0 && runA < runB);
+    }
+    
+    /**
+     * Quote a CSV field if it contains a comma or quote; quotes are doubled
+     */
+    private static String quoteCsv(String field) {
+        if (field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Field cannot contain a line break: " + field);
+        }
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+    
+    /**
+     * Split a CSV line into exactly the expected number of fields
+     */
+    private static String[] parseCsv(String line, int expectedFields) {
+        String[] fields = new String[expectedFields];
+        int count = 0;
+        int i = 0;
+        StringBuilder field = new StringBuilder();
+        
+        while (true) {
+            field.setLength(0);
+            if (i < line.length() && line.charAt(i) == '"') {
+                // Quoted field: read up to the closing quote, "" is an escaped quote
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("Unterminated quote in line: " + line);
+                    }
+                    char c = line.charAt(i++);
+                    if (c == '"') {
+                        if (i < line.length() && line.charAt(i) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                }
+            } else {
+                int comma = line.indexOf(',', i);
+                int fieldEnd = comma < 0 ? line.length() : comma;
+                field.append(line, i, fieldEnd);
+                i = fieldEnd;
+            }
+            
+            if (count == expectedFields) {
+                throw new IllegalArgumentException("Expected " + expectedFields + " fields in line: " + line);
+            }
+            fields[count++] = field.toString();
+            
+            if (i >= line.length()) {
+                break;
+            }
+            if (line.charAt(i) != ',') {
+                throw new IllegalArgumentException("Expected comma at position " + i + " in line: " + line);
+            }
+            i++;
+        }
+        
+        if (count != expectedFields) {
+            throw new IllegalArgumentException("Expected " + expectedFields + " fields in line: " + line);
+        }
+        return fields;
+    }
+}
@@ -1,9 +1,15 @@
 package bookstore.algorithms;
 
+import bookstore.datastructures.EytzingerIndex;
 import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyConcurrentSkipList;
+import bookstore.datastructures.MyHashMap;
+import bookstore.datastructures.MyTrie;
+import bookstore.datastructures.TrigramIndex;
 import bookstore.model.Book;
 import bookstore.model.Order;
 import java.util.Comparator;
+import java.util.function.Function;
 
 /**
  * Implementation of various searching algorithms.
@@ -137,50 +143,282 @@ public class SearchingAlgorithms {
     }
     
     /**
-     * Interpolation Search for numeric values
-     * Time Complexity: O(log log n) average case for uniform distribution, O(n) worst case
+     * Exponential Search algorithm for sorted lists
+     * Time Complexity: O(log i) where i is the index of the target
      * Space Complexity: O(1)
-     * @param list Sorted list of numeric values
-     * @param target Target value to find
-     * @return Index of target or -1 if not found
+     * @param list Sorted list to search in
+     * @param target Target element to find
+     * @return Index of the first occurrence of target or -1 if not found
+     */
+    public static <T extends Comparable<T>> int exponentialSearch(MyArrayList<T> list, T target) {
+        return exponentialSearch(list, target, AlgorithmUtils.naturalOrder());
+    }
+    
+    /**
+     * Exponential Search algorithm for sorted lists using custom comparator.
+     * Doubles the probe distance from the start of the list until it passes
+     * the target, then binary searches the last gap. Unlike jump search's
+     * fixed √n stride, the cost depends on where the target is, so items
+     * near the front are found in a few comparisons.
+     * Time Complexity: O(log i) where i is the index of the target
+     * Space Complexity: O(1)
+     * @param list Sorted list to search in
+     * @param target Target element to find
+     * @param comparator Comparator for element comparison
+     * @return Index of the first occurrence of target or -1 if not found
+     */
+    public static <T> int exponentialSearch(MyArrayList<T> list, T target, Comparator<? super T> comparator) {
+        int first = gallopingBound(list, 0, target, Function.identity(), comparator, false);
+        return first < list.size() && comparator.compare(list.get(first), target) == 0 ? first : -1;
+    }
+    
+    /**
+     * Exponential Search for every occurrence of a target
+     * Time Complexity: O(log i + log k) where i is the index of the first
+     * occurrence and k the number of occurrences
+     * Space Complexity: O(1)
+     * @param list Sorted list to search in
+     * @param target Target element to find
+     * @param comparator Comparator for element comparison
+     * @return {first, last} indexes of the matching elements, or {-1, -1} if not found
+     */
+    public static <T> int[] exponentialSearchRange(MyArrayList<T> list, T target, Comparator<? super T> comparator) {
+        int first = exponentialSearch(list, target, comparator);
+        if (first < 0) {
+            return new int[] {-1, -1};
+        }
+        // Gallop on from the first match, so long runs of duplicates cost O(log k)
+        int end = gallopingBound(list, first, target, Function.identity(), comparator, true);
+        return new int[] {first, end - 1};
+    }
+    
+    /**
+     * Batch Search: find many targets in one pass over a sorted list
+     * Time Complexity: O(m log m + m log(n/m)), at most O(m log m + n) comparisons
+     * Space Complexity: O(m)
+     * @param list Sorted list to search in
+     * @param targets Target elements to find, in any order
+     * @param comparator Comparator for element comparison
+     * @return For each target, the index of its first match or -1 if not found
+     */
+    public static <T> int[] batchSearch(MyArrayList<T> list, T[] targets, Comparator<? super T> comparator) {
+        return batchSearch(list, targets, Function.identity(), comparator);
+    }
+    
+    /**
+     * Batch Search by key: find many target keys in one pass over a list sorted by that key.
+     * The targets are sorted first, then resolved in ascending order with a
+     * galloping search starting where the previous target landed, so the list
+     * is walked forwards once no matter how many targets there are. Dense
+     * batches cost a merge, sparse ones a binary search each.
+     * Time Complexity: O(m log m + m log(n/m)), at most O(m log m + n) comparisons
+     * Space Complexity: O(m)
+     * @param list List sorted by key
+     * @param targets Target keys to find, in any order
+     * @param key Extracts the key from an element
+     * @param comparator Comparator for key comparison
+     * @return For each target, the index of the first element with that key or -1 if not found
+     */
+    public static <T, K> int[] batchSearch(MyArrayList<T> list, K[] targets, Function<? super T, ? extends K> key,
+                                           Comparator<? super K> comparator) {
+        int[] order = SortingAlgorithms.sortedOrder(targets, comparator);
+        return batchSearch(list, targets, order, key, comparator);
+    }
+    
+    /**
+     * Resolve a batch of targets visiting them in the given ascending order
+     */
+    private static <T, K> int[] batchSearch(MyArrayList<T> list, K[] targets, int[] order,
+                                            Function<? super T, ? extends K> key, Comparator<? super K> comparator) {
+        int m = targets.length;
+        int n = list.size();
+        int[] result = new int[m];
+        int position = 0;
+        for (int i = 0; i < m; i++) {
+            int target = order[i];
+            position = gallopingBound(list, position, targets[target], key, comparator, false);
+            boolean found = position < n && comparator.compare(key.apply(list.get(position)), targets[target]) == 0;
+            result[target] = found ? position : -1;
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Find books for many ISBNs at once, e.g. to reconcile a supplier feed
+     * Time Complexity: O(m log m + m log(n/m)), at most O(m log m + n) comparisons
+     * Space Complexity: O(m)
+     * @param sortedByIsbn Books sorted with {@link Book#BY_ISBN}
+     * @param isbns ISBNs to find, in any order
+     * @return For each ISBN, the matching book or null if not found
+     */
+    public static Book[] findBooksByIsbns(MyArrayList<Book> sortedByIsbn, String[] isbns) {
+        // Comparison sorts spend most of their time re-reading the shared "978"
+        // prefixes; a string sort puts the feed in order one character at a time
+        int[] order = SortingAlgorithms.multikeySortedOrder(isbns, false);
+        
+        int[] positions = batchSearch(sortedByIsbn, isbns, order, Book::getIsbn, AlgorithmUtils.naturalOrder());
+        Book[] books = new Book[isbns.length];
+        for (int i = 0; i < positions.length; i++) {
+            books[i] = positions[i] < 0 ? null : sortedByIsbn.get(positions[i]);
+        }
+        return books;
+    }
+    
+    /**
+     * First index at or after from whose key is not less than the target
+     * (or, for an upper bound, greater than it).
+     * Probes from+1, from+2, from+4, ... until it passes the target, then
+     * binary searches the last gap, so the cost grows with the log of the
+     * distance moved rather than the list size.
+     */
+    private static <T, K> int gallopingBound(MyArrayList<T> list, int from, K target, Function<? super T, ? extends K> key,
+                                             Comparator<? super K> comparator, boolean upper) {
+        int n = list.size();
+        // Elements below the bound compare < 0 (lower) or <= 0 (upper) with the target
+        int below = upper ? 1 : 0;
+        if (from >= n || comparator.compare(key.apply(list.get(from)), target) >= below) {
+            return from;
+        }
+        
+        // Invariant: lo is below the bound, and hi is not or hi == n
+        int lo = from;
+        int step = 1;
+        int hi = from + step;
+        while (hi < n && comparator.compare(key.apply(list.get(hi)), target) < below) {
+            lo = hi;
+            // Stop at the end of the list rather than let from + step overflow
+            step = step < (n - from) >>> 1 ? step << 1 : n - from;
+            hi = from + step;
+        }
+        
+        lo++;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(key.apply(list.get(mid)), target) < below) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    /**
+     * Interpolation Search for numeric values.
+     * Guesses the position from the prices at the ends of the remaining range
+     * and checks the guess with a guard probe √size further on; if the two
+     * probes fail to halve the range the next probe is a plain binary step,
+     * so skewed or duplicate prices cannot degrade it to a linear scan.
+     * Time Complexity: O(log log n) average case for uniform distribution, O(log n) worst case
+     * Space Complexity: O(1)
+     * @param list List of books sorted by price
+     * @param targetPrice Target price to find
+     * @return Index of a book with the target price or -1 if not found
      */
     public static int interpolationSearchByPrice(MyArrayList<Book> list, double targetPrice) {
         int low = 0;
         int high = list.size() - 1;
+        boolean interpolate = true;
         
-        // Search only if price is within the range
-        while (low <= high && 
-               targetPrice >= list.get(low).getPrice() && 
-               targetPrice <= list.get(high).getPrice()) {
-            
-            // Estimate position using price ratio
-            if (high == low) {
-                if (list.get(low).getPrice() == targetPrice) {
-                    return low;
-                }
+        while (low <= high) {
+            double lowPrice = list.get(low).getPrice();
+            double highPrice = list.get(high).getPrice();
+            if (targetPrice < lowPrice || targetPrice > highPrice) {
                 return -1;
             }
+            if (lowPrice == highPrice) {
+                return low;   // Every price in range equals the target
+            }
             
-            // Probing position with uniform distribution
-            int pos = low + (int)(
-                ((double)(high - low) / (list.get(high).getPrice() - list.get(low).getPrice())) * 
-                (targetPrice - list.get(low).getPrice())
-            );
-            
-            if (list.get(pos).getPrice() == targetPrice) {
+            int size = high - low + 1;
+            int pos = interpolate
+                    ? low + (int) ((targetPrice - lowPrice) / (highPrice - lowPrice) * (high - low))
+                    : (low + high) >>> 1;
+            double price = list.get(pos).getPrice();
+            if (price == targetPrice) {
                 return pos;
             }
             
-            if (list.get(pos).getPrice() < targetPrice) {
+            if (price < targetPrice) {
                 low = pos + 1;
             } else {
                 high = pos - 1;
             }
+            
+            if (interpolate) {
+                // Guard probe: bracket the target within √size of the guess
+                int guard = price < targetPrice ? pos + (int) Math.sqrt(size) : pos - (int) Math.sqrt(size);
+                if (guard >= low && guard <= high) {
+                    double guardPrice = list.get(guard).getPrice();
+                    if (guardPrice == targetPrice) {
+                        return guard;
+                    }
+                    if (guardPrice < targetPrice) {
+                        low = guard + 1;
+                    } else {
+                        high = guard - 1;
+                    }
+                }
+                // Fall back to bisection for one probe if the guess did not pay off
+                interpolate = high - low + 1 <= size / 2;
+            } else {
+                interpolate = true;
+            }
         }
         
         return -1;  // Not found
     }
     
+    /**
+     * Interpolation Search for every book with a price.
+     * Finds one match, then gallops outwards over the neighbouring duplicates.
+     * Time Complexity: O(log log n + log k) average case for uniform distribution,
+     * O(log n) worst case, where k is the number of matches
+     * Space Complexity: O(1)
+     * @param list List of books sorted by price
+     * @param targetPrice Target price to find
+     * @return {first, last} indexes of the books with the target price, or {-1, -1} if not found
+     */
+    public static int[] interpolationSearchRangeByPrice(MyArrayList<Book> list, double targetPrice) {
+        int hit = interpolationSearchByPrice(list, targetPrice);
+        if (hit < 0) {
+            return new int[] {-1, -1};
+        }
+        return new int[] {priceRunEnd(list, hit, targetPrice, -1), priceRunEnd(list, hit, targetPrice, 1)};
+    }
+    
+    /**
+     * Last index from hit in the given direction (-1 or 1) that still has the
+     * price, by galloping away from hit and binary searching the last gap
+     */
+    private static int priceRunEnd(MyArrayList<Book> list, int hit, double price, int direction) {
+        int n = list.size();
+        int inside = hit;
+        int outside;
+        int step = 1;
+        while (true) {
+            // Index hit + direction * step, stopping just outside the list
+            outside = direction > 0 ? (step >= n - hit ? n : hit + step) : (step > hit ? -1 : hit - step);
+            if (outside < 0 || outside >= n || list.get(outside).getPrice() != price) {
+                break;
+            }
+            inside = outside;
+            step <<= 1;
+        }
+        
+        // inside has the price, outside does not (or is off the end)
+        while (Math.abs(outside - inside) > 1) {
+            int mid = inside + (outside - inside) / 2;
+            if (list.get(mid).getPrice() == price) {
+                inside = mid;
+            } else {
+                outside = mid;
+            }
+        }
+        return inside;
+    }
+    
     /**
      * Find books with price nearest to target price
      * @param list List of books
@@ -211,6 +449,111 @@ public class SearchingAlgorithms {
         return linearSearchPredicate(books, (book) -> book.getIsbn().equals(isbn));
     }
     
+    /**
+     * Find book by ISBN using a hash index
+     * Time Complexity: O(1) expected
+     * Space Complexity: O(1)
+     * @param isbnIndex Index mapping ISBN to book
+     * @param isbn ISBN to find
+     * @return Matching book or null if not found
+     */
+    public static Book findBookByIsbn(MyHashMap<String, Book> isbnIndex, String isbn) {
+        return isbnIndex.get(isbn);
+    }
+    
+    /**
+     * Build a hash index mapping ISBN to book
+     * @param books List of books to index
+     * @return Index containing every book keyed by ISBN
+     */
+    public static MyHashMap<String, Book> buildIsbnIndex(MyArrayList<Book> books) {
+        MyHashMap<String, Book> index = new MyHashMap<>(books.size());
+        for (int i = 0; i < books.size(); i++) {
+            index.put(books.get(i).getIsbn(), books.get(i));
+        }
+        return index;
+    }
+    
+    /**
+     * Find book by ISBN using an Eytzinger index of ISBN hashes.
+     * Books whose ISBNs share the hash are told apart by comparing the ISBN.
+     * Time Complexity: O(log n)
+     * Space Complexity: O(1)
+     * @param isbnHashIndex Index built by {@link #buildIsbnHashIndex}
+     * @param isbn ISBN to find
+     * @return Matching book or null if not found
+     */
+    public static Book findBookByIsbn(EytzingerIndex<Book> isbnHashIndex, String isbn) {
+        long hash = isbnHash(isbn);
+        int end = isbnHashIndex.upperBound(hash);
+        for (int i = isbnHashIndex.lowerBound(hash); i < end; i++) {
+            Book book = isbnHashIndex.get(i);
+            if (book.getIsbn().equals(isbn)) {
+                return book;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Build an Eytzinger index of books keyed by a 64-bit hash of the ISBN
+     * @param books List of books to index
+     * @return Index containing every book
+     */
+    public static EytzingerIndex<Book> buildIsbnHashIndex(MyArrayList<Book> books) {
+        MyArrayList<Book> sorted = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.radixSortByLong(sorted, book -> isbnHash(book.getIsbn()));
+        return new EytzingerIndex<>(sorted, book -> isbnHash(book.getIsbn()));
+    }
+    
+    /**
+     * Find books in an inclusive price range using an Eytzinger price index
+     * Time Complexity: O(log n + m) where m is the number of matches
+     * Space Complexity: O(m)
+     * @param priceIndex Index built by {@link #buildPriceIndex}
+     * @param minPrice Lowest price to include
+     * @param maxPrice Highest price to include
+     * @return Matching books from cheapest to most expensive
+     */
+    public static MyArrayList<Book> findBooksByPrice(EytzingerIndex<Book> priceIndex, double minPrice, double maxPrice) {
+        return priceIndex.range(AlgorithmUtils.sortableBits(minPrice), AlgorithmUtils.sortableBits(maxPrice));
+    }
+    
+    /**
+     * Build an Eytzinger index of books keyed by price
+     * @param books List of books to index
+     * @return Index containing every book, cheapest first
+     */
+    public static EytzingerIndex<Book> buildPriceIndex(MyArrayList<Book> books) {
+        MyArrayList<Book> sorted = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.radixSortByDouble(sorted, Book::getPrice);
+        return new EytzingerIndex<>(sorted, book -> AlgorithmUtils.sortableBits(book.getPrice()));
+    }
+    
+    /**
+     * Build an Eytzinger index of books keyed by quantity in stock.
+     * Quantities are copied when the index is built, so rebuild it after stock changes.
+     * @param books List of books to index
+     * @return Index containing every book, lowest stock first
+     */
+    public static EytzingerIndex<Book> buildQuantityIndex(MyArrayList<Book> books) {
+        MyArrayList<Book> sorted = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.radixSortByInt(sorted, Book::getQuantityInStock);
+        return new EytzingerIndex<>(sorted, Book::getQuantityInStock);
+    }
+    
+    /**
+     * 64-bit polynomial hash of an ISBN; wider than String.hashCode so
+     * collisions stay rare on catalogs of hundreds of millions of books
+     */
+    private static long isbnHash(String isbn) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < isbn.length(); i++) {
+            hash = 31 * hash + isbn.charAt(i);
+        }
+        return hash;
+    }
+    
     /**
      * Find all books by author
      * @param books List of books to search
@@ -249,6 +592,98 @@ public class SearchingAlgorithms {
         return result;
     }
     
+    /**
+     * Find all books whose indexed text contains a substring using a trigram index
+     * Time Complexity: O(q + c) where q is the total length of the intersected
+     * posting lists and c the number of candidate books to verify
+     * @param index Trigram index over titles or authors
+     * @param text Text or part of text to find
+     * @return New list containing all matching books
+     */
+    public static MyArrayList<Book> findBooksBySubstring(TrigramIndex<Book> index, String text) {
+        return index.search(text);
+    }
+    
+    /**
+     * Build a trigram index over book titles
+     * @param books List of books to index
+     * @return Index for substring search on titles
+     */
+    public static TrigramIndex<Book> buildTitleTrigramIndex(MyArrayList<Book> books) {
+        return buildTrigramIndex(books, Book::getTitle);
+    }
+    
+    /**
+     * Build a trigram index over book authors
+     * @param books List of books to index
+     * @return Index for substring search on authors
+     */
+    public static TrigramIndex<Book> buildAuthorTrigramIndex(MyArrayList<Book> books) {
+        return buildTrigramIndex(books, Book::getAuthor);
+    }
+    
+    private static TrigramIndex<Book> buildTrigramIndex(MyArrayList<Book> books, Function<Book, String> keyExtractor) {
+        TrigramIndex<Book> index = new TrigramIndex<>(keyExtractor);
+        for (int i = 0; i < books.size(); i++) {
+            index.add(books.get(i));
+        }
+        index.trimToSize();
+        return index;
+    }
+    
+    /**
+     * Find books whose title starts with a prefix using a title trie
+     * Time Complexity: O(p + limit) where p is the prefix length
+     * @param titleIndex Trie of books keyed by title
+     * @param prefix Case-insensitive title prefix
+     * @param limit Maximum number of books to return
+     * @return New list of matching books sorted by title
+     */
+    public static MyArrayList<Book> findBooksByTitlePrefix(MyTrie<Book> titleIndex, String prefix, int limit) {
+        return titleIndex.findByPrefix(prefix, limit);
+    }
+    
+    /**
+     * Build a trie of books keyed by title
+     * @param books List of books to index
+     * @return Trie containing every book keyed by title
+     */
+    public static MyTrie<Book> buildTitleIndex(MyArrayList<Book> books) {
+        MyTrie<Book> index = new MyTrie<>();
+        for (int i = 0; i < books.size(); i++) {
+            index.insert(books.get(i).getTitle(), books.get(i));
+        }
+        return index;
+    }
+    
+    /**
+     * Find books whose title starts with a prefix using a concurrent title index.
+     * Safe to call while other threads insert into the index.
+     * Time Complexity: O(log n + limit) expected
+     * @param titleIndex Skip list of books sorted by {@link Book#BY_TITLE}
+     * @param prefix Case-insensitive title prefix
+     * @param limit Maximum number of books to return
+     * @return New list of matching books sorted by title
+     */
+    public static MyArrayList<Book> findBooksByTitlePrefix(MyConcurrentSkipList<Book> titleIndex, String prefix, int limit) {
+        // Titles starting with the prefix sort in one run beginning at the prefix itself
+        Book probe = new Book(prefix, "", "", 0.0, 0);
+        return titleIndex.scan(probe, book -> book.getTitle().regionMatches(true, 0, prefix, 0, prefix.length()), limit);
+    }
+    
+    /**
+     * Build a concurrent skip list of books sorted by title
+     * @param books List of books to index
+     * @return Index that can be searched while new books are inserted
+     */
+    public static MyConcurrentSkipList<Book> buildConcurrentTitleIndex(MyArrayList<Book> books) {
+        MyConcurrentSkipList<Book> index = new MyConcurrentSkipList<>(Book.BY_TITLE);
+        for (int i = 0; i < books.size(); i++) {
+            index.insert(books.get(i));
+        }
+        return index;
+    }
+    
     /**
      * Find order by ID
      * @param orders List of orders to search
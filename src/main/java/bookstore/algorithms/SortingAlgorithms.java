@@ -1,13 +1,38 @@
 package bookstore.algorithms;
 
 import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Implementation of various sorting algorithms.
  */
 public class SortingAlgorithms {
     
+    // Ranges shorter than this are sorted with insertion sort
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    
+    // Ranges shorter than this are sorted or merged without forking new tasks
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    
+    // TimSort: lists shorter than this are not merged; also bounds the minimum run length
+    private static final int MIN_MERGE = 32;
+    
+    // TimSort: wins in a row before a merge switches to galloping
+    private static final int MIN_GALLOP = 7;
+    
+    // TimSort: pending run stack depth, enough for any int-sized list
+    private static final int MAX_PENDING_RUNS = 49;
+    
+    // Radix sort: buckets per pass, one byte of the key at a time
+    private static final int RADIX = 256;
+    
     // Private constructor to prevent instantiation of utility class
     private SortingAlgorithms() {}
     
@@ -133,6 +158,223 @@ public class SortingAlgorithms {
         return i + 1;
     }
     
+    /**
+     * Sort using Introsort with natural ordering
+     * @param list List to sort
+     * @param <T> Type that implements Comparable
+     */
+    public static <T extends Comparable<T>> void introSort(MyArrayList<T> list) {
+        introSort(list, AlgorithmUtils.naturalOrder());
+    }
+    
+    /**
+     * Sort using Introsort with custom comparator.
+     * A quick sort that cannot go quadratic: pivots come from a sorted sample
+     * of five elements, ranges are split around two pivots at once, and a
+     * sample with equal pivots switches to three-way partitioning so runs of
+     * duplicates (e.g. equal prices) are finished in one pass. Recursion is
+     * bounded by 2·log₂ n levels, after which the range is heap sorted, and
+     * small ranges use insertion sort.
+     * Time Complexity: O(n log n) in all cases
+     * Space Complexity: O(n) for the working array, O(log n) for recursion stack
+     * @param list List to sort
+     * @param comparator Comparator for element comparison
+     * @param <T> Element type
+     */
+    public static <T> void introSort(MyArrayList<T> list, Comparator<T> comparator) {
+        Object[] array = list.toArray();
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(array.length, 1)));
+        introSort(array, 0, array.length, depthLimit, comparator);
+        AlgorithmUtils.copyInto(array, list);
+    }
+    
+    /**
+     * Recursive Introsort implementation on array[from, to)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void introSort(Object[] array, int from, int to, int depthLimit, Comparator<T> comparator) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                // Partitioning is going badly - finish this range in guaranteed O(n log n)
+                heapSortArray(array, from, to, comparator);
+                return;
+            }
+            
+            // Five evenly spaced sample positions around the middle
+            int length = to - from;
+            int seventh = (length >> 3) + (length >> 6) + 1;
+            int e3 = (from + to) >>> 1;
+            int e2 = e3 - seventh;
+            int e1 = e2 - seventh;
+            int e4 = e3 + seventh;
+            int e5 = e4 + seventh;
+            sortSample(array, e1, e2, e3, e4, e5, comparator);
+            
+            if (comparator.compare((T) array[e2], (T) array[e4]) < 0) {
+                // Distinct pivots: split into < p1, p1..p2 and > p2
+                long bounds = dualPivotPartition(array, from, to - 1, e2, e4, comparator);
+                int less = (int) (bounds >>> 32);
+                int great = (int) bounds;
+                introSort(array, from, less, depthLimit, comparator);
+                introSort(array, great + 1, to, depthLimit, comparator);
+                from = less + 1;
+                to = great;
+            } else {
+                // Pivots are equal, so the range likely has many duplicates of them
+                long bounds = threeWayPartition(array, from, to, (T) array[e3], comparator);
+                int lessEnd = (int) (bounds >>> 32);
+                int greaterStart = (int) bounds;
+                
+                // Recurse into the smaller side and loop on the larger one
+                if (lessEnd - from < to - greaterStart) {
+                    introSort(array, from, lessEnd, depthLimit, comparator);
+                    from = greaterStart;
+                } else {
+                    introSort(array, greaterStart, to, depthLimit, comparator);
+                    to = lessEnd;
+                }
+            }
+        }
+        insertionSortArray(array, from, to, comparator);
+    }
+    
+    /**
+     * Dual-pivot partition of array[left, right] using the elements at p1Index < p2Index,
+     * which must compare strictly less than each other
+     * @return Final pivot positions packed as (less << 32) | great
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> long dualPivotPartition(Object[] array, int left, int right,
+                                               int p1Index, int p2Index, Comparator<T> comparator) {
+        swapArray(array, p1Index, left);
+        swapArray(array, p2Index, right);
+        T pivot1 = (T) array[left];
+        T pivot2 = (T) array[right];
+        
+        // [left+1, less) < pivot1, [less, k) in between, (great, right) > pivot2
+        int less = left + 1;
+        int great = right - 1;
+        for (int k = less; k <= great; k++) {
+            T element = (T) array[k];
+            if (comparator.compare(element, pivot1) < 0) {
+                swapArray(array, k, less++);
+            } else if (comparator.compare(element, pivot2) > 0) {
+                while (k < great && comparator.compare((T) array[great], pivot2) > 0) {
+                    great--;
+                }
+                swapArray(array, k, great--);
+                if (comparator.compare((T) array[k], pivot1) < 0) {
+                    swapArray(array, k, less++);
+                }
+            }
+        }
+        
+        // Move the pivots between the parts
+        less--;
+        great++;
+        swapArray(array, left, less);
+        swapArray(array, right, great);
+        return ((long) less << 32) | (great & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Three-way partition of array[from, to) around a pivot value
+     * @return Bounds of the equal run packed as (start << 32) | end, end exclusive
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> long threeWayPartition(Object[] array, int from, int to, T pivot, Comparator<T> comparator) {
+        // [from, lt) < pivot, [lt, i) == pivot, (gt, to) > pivot
+        int lt = from;
+        int i = from;
+        int gt = to - 1;
+        while (i <= gt) {
+            int cmp = comparator.compare((T) array[i], pivot);
+            if (cmp < 0) {
+                swapArray(array, lt++, i++);
+            } else if (cmp > 0) {
+                swapArray(array, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | ((gt + 1) & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Sort the five sample elements in place with a 9-comparator sorting network
+     */
+    private static <T> void sortSample(Object[] array, int e1, int e2, int e3, int e4, int e5, Comparator<T> comparator) {
+        orderPair(array, e1, e2, comparator);
+        orderPair(array, e4, e5, comparator);
+        orderPair(array, e3, e5, comparator);
+        orderPair(array, e3, e4, comparator);
+        orderPair(array, e1, e4, comparator);
+        orderPair(array, e1, e3, comparator);
+        orderPair(array, e2, e5, comparator);
+        orderPair(array, e2, e4, comparator);
+        orderPair(array, e2, e3, comparator);
+    }
+    
+    /**
+     * Swap two array elements if they are out of order
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void orderPair(Object[] array, int i, int j, Comparator<T> comparator) {
+        if (comparator.compare((T) array[i], (T) array[j]) > 0) {
+            swapArray(array, i, j);
+        }
+    }
+    
+    /**
+     * Heap Sort on a range of a raw array
+     */
+    private static <T> void heapSortArray(Object[] array, int from, int to, Comparator<T> comparator) {
+        int n = to - from;
+        
+        // Build max heap
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, from, n, i, comparator);
+        }
+        
+        // Extract elements from heap
+        for (int i = n - 1; i > 0; i--) {
+            swapArray(array, from, from + i);
+            siftDown(array, from, i, 0, comparator);
+        }
+    }
+    
+    /**
+     * Iterative heapify for a heap stored at array[offset, offset + n)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void siftDown(Object[] array, int offset, int n, int i, Comparator<T> comparator) {
+        T value = (T) array[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && comparator.compare((T) array[offset + child + 1], (T) array[offset + child]) > 0) {
+                child++;
+            }
+            if (comparator.compare((T) array[offset + child], value) <= 0) {
+                break;
+            }
+            array[offset + i] = array[offset + child];
+            i = child;
+        }
+        array[offset + i] = value;
+    }
+    
+    /**
+     * Swap two elements in a raw array
+     */
+    private static void swapArray(Object[] array, int i, int j) {
+        Object temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+    
     /**
      * Sort using Merge Sort with natural ordering
      * @param list List to sort
@@ -205,6 +447,1346 @@ public class SortingAlgorithms {
         }
     }
     
+    /**
+     * Sort using a parallel Merge Sort with natural ordering
+     * @param list List to sort
+     * @param <T> Type that implements Comparable
+     */
+    public static <T extends Comparable<T>> void parallelMergeSort(MyArrayList<T> list) {
+        parallelMergeSort(list, AlgorithmUtils.naturalOrder());
+    }
+    
+    /**
+     * Sort using a parallel Merge Sort with custom comparator.
+     * Runs on the common ForkJoinPool: both halves of a range are sorted as
+     * separate tasks and large merges are split into independent pieces, so
+     * every level of the recursion uses all cores. Ranges below a cutoff are
+     * sorted sequentially and the smallest runs with insertion sort.
+     * The sort is stable.
+     * Time Complexity: O(n log n) work, O(log³ n) span
+     * Space Complexity: O(n) - one working copy and one scratch buffer for the whole sort
+     * @param list List to sort
+     * @param comparator Comparator for element comparison (must be thread-safe)
+     * @param <T> Element type
+     */
+    public static <T> void parallelMergeSort(MyArrayList<T> list, Comparator<T> comparator) {
+        Object[] array = list.toArray();
+        if (array.length < 2) {
+            return;
+        }
+        
+        // Both arrays start with the same contents and swap roles at every level
+        Object[] scratch = array.clone();
+        ForkJoinPool.commonPool().invoke(new ParallelSortTask<>(scratch, array, 0, array.length, comparator));
+        AlgorithmUtils.copyInto(array, list);
+    }
+    
+    /**
+     * Fork-join task that sorts src[from, to) into dst[from, to).
+     * On entry both arrays hold the same elements in the range; the halves are
+     * sorted into src, then merged back into dst.
+     */
+    private static class ParallelSortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final Object[] src;
+        private final Object[] dst;
+        private final int from;
+        private final int to;
+        private final Comparator<T> comparator;
+        
+        ParallelSortTask(Object[] src, Object[] dst, int from, int to, Comparator<T> comparator) {
+            this.src = src;
+            this.dst = dst;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                mergeSortArray(src, dst, from, to, comparator);
+                return;
+            }
+            
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParallelSortTask<>(dst, src, from, middle, comparator),
+                      new ParallelSortTask<>(dst, src, middle, to, comparator));
+            new ParallelMergeTask<>(src, from, middle, middle, to, dst, from, comparator).compute();
+        }
+    }
+    
+    /**
+     * Fork-join task that merges the sorted runs src[lo1, hi1) and src[lo2, hi2)
+     * into dst starting at index out. Large merges are split at the middle of
+     * the longer run, with a binary search for the matching split in the other.
+     */
+    private static class ParallelMergeTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final Object[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final Object[] dst;
+        private final int out;
+        private final Comparator<T> comparator;
+        
+        ParallelMergeTask(Object[] src, int lo1, int hi1, int lo2, int hi2,
+                          Object[] dst, int out, Comparator<T> comparator) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.out = out;
+            this.comparator = comparator;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            int length1 = hi1 - lo1;
+            int length2 = hi2 - lo2;
+            if (length1 + length2 < PARALLEL_THRESHOLD) {
+                mergeArrays(src, lo1, hi1, lo2, hi2, dst, out, comparator);
+                return;
+            }
+            
+            // Equal elements must keep left-run-first order, hence lower vs upper bound
+            int split1;
+            int split2;
+            if (length1 >= length2) {
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(src, lo2, hi2, (T) src[split1], comparator);
+            } else {
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(src, lo1, hi1, (T) src[split2], comparator);
+            }
+            
+            int out2 = out + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new ParallelMergeTask<>(src, lo1, split1, lo2, split2, dst, out, comparator),
+                      new ParallelMergeTask<>(src, split1, hi1, split2, hi2, dst, out2, comparator));
+        }
+    }
+    
+    /**
+     * Sequential version of the parallel sort step: sorts src[from, to) into dst[from, to)
+     */
+    private static <T> void mergeSortArray(Object[] src, Object[] dst, int from, int to, Comparator<T> comparator) {
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            insertionSortArray(dst, from, to, comparator);
+            return;
+        }
+        
+        int middle = (from + to) >>> 1;
+        mergeSortArray(dst, src, from, middle, comparator);
+        mergeSortArray(dst, src, middle, to, comparator);
+        
+        // Already in order - the runs only need copying
+        @SuppressWarnings("unchecked")
+        T lastOfLeft = (T) src[middle - 1];
+        @SuppressWarnings("unchecked")
+        T firstOfRight = (T) src[middle];
+        if (comparator.compare(lastOfLeft, firstOfRight) <= 0) {
+            System.arraycopy(src, from, dst, from, to - from);
+            return;
+        }
+        mergeArrays(src, from, middle, middle, to, dst, from, comparator);
+    }
+    
+    /**
+     * Merge two sorted runs of src into dst, taking from the first run on ties
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void mergeArrays(Object[] src, int lo1, int hi1, int lo2, int hi2,
+                                        Object[] dst, int out, Comparator<T> comparator) {
+        int i = lo1;
+        int j = lo2;
+        int k = out;
+        
+        while (i < hi1 && j < hi2) {
+            if (comparator.compare((T) src[i], (T) src[j]) <= 0) {
+                dst[k++] = src[i++];
+            } else {
+                dst[k++] = src[j++];
+            }
+        }
+        
+        // Copy remaining elements
+        System.arraycopy(src, i, dst, k, hi1 - i);
+        System.arraycopy(src, j, dst, k + (hi1 - i), hi2 - j);
+    }
+    
+    /**
+     * Insertion sort on a range of a raw array
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void insertionSortArray(Object[] array, int from, int to, Comparator<T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            T key = (T) array[i];
+            int j = i - 1;
+            
+            while (j >= from && comparator.compare((T) array[j], key) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            
+            array[j + 1] = key;
+        }
+    }
+    
+    /**
+     * First index in a sorted range whose element is not less than the key
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int lowerBound(Object[] array, int from, int to, T key, Comparator<T> comparator) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (comparator.compare((T) array[middle], key) < 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+    
+    /**
+     * First index in a sorted range whose element is greater than the key
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int upperBound(Object[] array, int from, int to, T key, Comparator<T> comparator) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (comparator.compare((T) array[middle], key) <= 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+    
+    /**
+     * Sort using an adaptive Merge Sort (TimSort) with natural ordering
+     * @param list List to sort
+     * @param <T> Type that implements Comparable
+     */
+    public static <T extends Comparable<T>> void timSort(MyArrayList<T> list) {
+        timSort(list, AlgorithmUtils.naturalOrder());
+    }
+    
+    /**
+     * Sort using an adaptive Merge Sort (TimSort) with custom comparator.
+     * Splits the list into the ascending or strictly descending runs it already
+     * contains (descending runs are reversed), extends short runs to a minimum
+     * length with binary insertion sort, and merges neighbouring runs while
+     * keeping their lengths balanced. Merges first skip the parts of each run
+     * that are already in place and switch to galloping (exponential search and
+     * bulk copy) when one run keeps winning, so a sorted list with a few books
+     * appended costs little more than one pass. The sort is stable.
+     * Time Complexity: O(n) for sorted or reversed data, O(n log n) worst case
+     * Space Complexity: O(n) for the working array, at most n/2 for the merge buffer
+     * @param list List to sort
+     * @param comparator Comparator for element comparison
+     * @param <T> Element type
+     */
+    public static <T> void timSort(MyArrayList<T> list, Comparator<T> comparator) {
+        Object[] array = list.toArray();
+        int n = array.length;
+        if (n < 2) {
+            return;
+        }
+        
+        // Small lists: one run plus binary insertion sort, no merging
+        if (n < MIN_MERGE) {
+            int initRunLength = countRunAndMakeAscending(array, 0, n, comparator);
+            binaryInsertionSort(array, 0, n, initRunLength, comparator);
+            AlgorithmUtils.copyInto(array, list);
+            return;
+        }
+        
+        RunMerger<T> merger = new RunMerger<>(array, comparator);
+        int minRun = minRunLength(n);
+        int low = 0;
+        int remaining = n;
+        do {
+            int runLength = countRunAndMakeAscending(array, low, low + remaining, comparator);
+            
+            // Extend a short run to min(minRun, remaining)
+            if (runLength < minRun) {
+                int forced = Math.min(minRun, remaining);
+                binaryInsertionSort(array, low, low + forced, low + runLength, comparator);
+                runLength = forced;
+            }
+            
+            merger.pushRun(low, runLength);
+            merger.mergeCollapse();
+            
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+        
+        merger.mergeForceCollapse();
+        AlgorithmUtils.copyInto(array, list);
+    }
+    
+    /**
+     * Pending run stack and merge state for TimSort
+     */
+    private static class RunMerger<T> {
+        private final Object[] array;
+        private final Comparator<T> comparator;
+        private final Object[] buffer;                  // Holds the shorter run during a merge
+        private final int[] runBase = new int[MAX_PENDING_RUNS];
+        private final int[] runLength = new int[MAX_PENDING_RUNS];
+        private int stackSize;
+        private int minGallop = MIN_GALLOP;             // Lowered while galloping pays off
+        
+        RunMerger(Object[] array, Comparator<T> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+            this.buffer = new Object[array.length >>> 1];
+        }
+        
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+        
+        /**
+         * Merge runs until every run on the stack is longer than the two above it,
+         * which keeps the merges balanced and the stack O(log n) deep
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+        
+        /**
+         * Merge all remaining runs into one
+         */
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+        
+        /**
+         * Merge the runs at stack positions i and i + 1
+         */
+        @SuppressWarnings("unchecked")
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+            
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+            
+            // Elements of run 1 not greater than run 2's first element are already in place
+            int skip = gallopRight((T) array[base2], array, base1, length1, 0, comparator);
+            base1 += skip;
+            length1 -= skip;
+            if (length1 == 0) {
+                return;
+            }
+            
+            // Elements of run 2 not less than run 1's last element are already in place
+            length2 = gallopLeft((T) array[base1 + length1 - 1], array, base2, length2, length2 - 1, comparator);
+            if (length2 == 0) {
+                return;
+            }
+            
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+        
+        /**
+         * Merge adjacent runs front to back, buffering the shorter first run
+         */
+        @SuppressWarnings("unchecked")
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            System.arraycopy(array, base1, buffer, 0, length1);
+            int cursor1 = 0;                   // In buffer
+            int cursor2 = base2;               // In array
+            int end2 = base2 + length2;
+            int dest = base1;
+            
+            outer:
+            while (true) {
+                int count1 = 0;                // Times in a row run 1 won
+                int count2 = 0;                // Times in a row run 2 won
+                
+                // One element at a time until one run starts winning consistently
+                do {
+                    if (comparator.compare((T) array[cursor2], (T) buffer[cursor1]) < 0) {
+                        array[dest++] = array[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (cursor2 == end2) {
+                            break outer;
+                        }
+                    } else {
+                        array[dest++] = buffer[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (cursor1 == length1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < minGallop);
+                
+                // Gallop: find how far each run wins and copy that stretch in bulk
+                do {
+                    count1 = gallopRight((T) array[cursor2], buffer, cursor1, length1 - cursor1, 0, comparator);
+                    if (count1 != 0) {
+                        System.arraycopy(buffer, cursor1, array, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        if (cursor1 == length1) {
+                            break outer;
+                        }
+                    }
+                    array[dest++] = array[cursor2++];
+                    if (cursor2 == end2) {
+                        break outer;
+                    }
+                    
+                    count2 = gallopLeft((T) buffer[cursor1], array, cursor2, end2 - cursor2, 0, comparator);
+                    if (count2 != 0) {
+                        System.arraycopy(array, cursor2, array, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        if (cursor2 == end2) {
+                            break outer;
+                        }
+                    }
+                    array[dest++] = buffer[cursor1++];
+                    if (cursor1 == length1) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                
+                // Penalise leaving gallop mode
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            minGallop = Math.max(minGallop, 1);
+            
+            // Rest of run 2 is already in place; copy the rest of run 1 after it
+            System.arraycopy(buffer, cursor1, array, dest, length1 - cursor1);
+        }
+        
+        /**
+         * Merge adjacent runs back to front, buffering the shorter second run
+         */
+        @SuppressWarnings("unchecked")
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            System.arraycopy(array, base2, buffer, 0, length2);
+            int cursor1 = base1 + length1 - 1; // In array
+            int cursor2 = length2 - 1;         // In buffer
+            int dest = base2 + length2 - 1;
+            
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                
+                do {
+                    if (comparator.compare((T) buffer[cursor2], (T) array[cursor1]) < 0) {
+                        array[dest--] = array[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (cursor1 < base1) {
+                            break outer;
+                        }
+                    } else {
+                        array[dest--] = buffer[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (cursor2 < 0) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < minGallop);
+                
+                do {
+                    int remaining1 = cursor1 - base1 + 1;
+                    count1 = remaining1 - gallopRight((T) buffer[cursor2], array, base1, remaining1, remaining1 - 1, comparator);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        System.arraycopy(array, cursor1 + 1, array, dest + 1, count1);
+                        if (cursor1 < base1) {
+                            break outer;
+                        }
+                    }
+                    array[dest--] = buffer[cursor2--];
+                    if (cursor2 < 0) {
+                        break outer;
+                    }
+                    
+                    count2 = cursor2 + 1 - gallopLeft((T) array[cursor1], buffer, 0, cursor2 + 1, cursor2, comparator);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        System.arraycopy(buffer, cursor2 + 1, array, dest + 1, count2);
+                        if (cursor2 < 0) {
+                            break outer;
+                        }
+                    }
+                    array[dest--] = array[cursor1--];
+                    if (cursor1 < base1) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            minGallop = Math.max(minGallop, 1);
+            
+            // Rest of run 1 is already in place; copy the rest of run 2 before it
+            System.arraycopy(buffer, 0, array, dest - cursor2, cursor2 + 1);
+        }
+    }
+    
+    /**
+     * Length of the run starting at low, reversing it if strictly descending
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int countRunAndMakeAscending(Object[] array, int low, int high, Comparator<T> comparator) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+        
+        if (comparator.compare((T) array[runHigh++], (T) array[low]) < 0) {
+            // Strictly descending, so reversing it cannot reorder equal elements
+            while (runHigh < high && comparator.compare((T) array[runHigh], (T) array[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            for (int i = low, j = runHigh - 1; i < j; i++, j--) {
+                swapArray(array, i, j);
+            }
+        } else {
+            while (runHigh < high && comparator.compare((T) array[runHigh], (T) array[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+    
+    /**
+     * Binary insertion sort of array[low, high) where array[low, start) is already sorted
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void binaryInsertionSort(Object[] array, int low, int high, int start, Comparator<T> comparator) {
+        for (; start < high; start++) {
+            T pivot = (T) array[start];
+            
+            // Insert after any equal elements to keep the sort stable
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (comparator.compare(pivot, (T) array[middle]) < 0) {
+                    right = middle;
+                } else {
+                    left = middle + 1;
+                }
+            }
+            
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+    
+    /**
+     * Minimum run length: n is split into runs whose count is a power of two or slightly less
+     */
+    private static int minRunLength(int n) {
+        int lowBits = 0;
+        while (n >= MIN_MERGE) {
+            lowBits |= n & 1;
+            n >>= 1;
+        }
+        return n + lowBits;
+    }
+    
+    /**
+     * Position of the leftmost slot for key in sorted array[base, base + length),
+     * searching outwards from hint: returns k with array[base + k - 1] < key <= array[base + k]
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int gallopLeft(T key, Object[] array, int base, int length, int hint, Comparator<T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, (T) array[base + hint]) > 0) {
+            // Gallop right until array[base + hint + lastOffset] < key <= array[base + hint + offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, (T) array[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;   // Overflow
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            // Gallop left until array[base + hint - offset] < key <= array[base + hint - lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, (T) array[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+        
+        // Binary search between the last two probes
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, (T) array[base + middle]) > 0) {
+                lastOffset = middle + 1;
+            } else {
+                offset = middle;
+            }
+        }
+        return offset;
+    }
+    
+    /**
+     * Position of the rightmost slot for key in sorted array[base, base + length),
+     * searching outwards from hint: returns k with array[base + k - 1] <= key < array[base + k]
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int gallopRight(T key, Object[] array, int base, int length, int hint, Comparator<T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, (T) array[base + hint]) < 0) {
+            // Gallop left until array[base + hint - offset] <= key < array[base + hint - lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, (T) array[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            // Gallop right until array[base + hint + lastOffset] <= key < array[base + hint + offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, (T) array[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+        
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, (T) array[base + middle]) < 0) {
+                offset = middle;
+            } else {
+                lastOffset = middle + 1;
+            }
+        }
+        return offset;
+    }
+    
+    /**
+     * Sort using LSD Radix Sort on an int key, ascending
+     * @param list List to sort
+     * @param key Extracts the sort key from an element
+     * @param <T> Element type
+     */
+    public static <T> void radixSortByInt(MyArrayList<T> list, ToIntFunction<T> key) {
+        radixSortByInt(list, key, false);
+    }
+    
+    /**
+     * Sort using LSD Radix Sort on an int key.
+     * Keys are extracted once into a primitive array, then elements are
+     * distributed by one byte of the key per pass; no comparisons are made.
+     * The sort is stable in both directions.
+     * Time Complexity: O(n) - at most 4 passes, fewer when key bytes are all equal
+     * Space Complexity: O(n) for key and element buffers
+     * @param list List to sort
+     * @param key Extracts the sort key from an element
+     * @param descending true to sort from the largest key to the smallest
+     * @param <T> Element type
+     */
+    public static <T> void radixSortByInt(MyArrayList<T> list, ToIntFunction<T> key, boolean descending) {
+        int n = list.size();
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            // Flip the sign bit so negative keys order before positive ones as unsigned values
+            keys[i] = (key.applyAsInt(list.get(i)) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            if (descending) {
+                keys[i] ^= 0xFFFFFFFFL;
+            }
+        }
+        radixSortByUnsignedKeys(list, keys, Integer.BYTES);
+    }
+    
+    /**
+     * Sort using LSD Radix Sort on a long key, ascending
+     * @param list List to sort
+     * @param key Extracts the sort key from an element
+     * @param <T> Element type
+     */
+    public static <T> void radixSortByLong(MyArrayList<T> list, ToLongFunction<T> key) {
+        radixSortByLong(list, key, false);
+    }
+    
+    /**
+     * Sort using LSD Radix Sort on a long key. The sort is stable in both directions.
+     * Time Complexity: O(n) - at most 8 passes, fewer when key bytes are all equal
+     * Space Complexity: O(n) for key and element buffers
+     * @param list List to sort
+     * @param key Extracts the sort key from an element
+     * @param descending true to sort from the largest key to the smallest
+     * @param <T> Element type
+     */
+    public static <T> void radixSortByLong(MyArrayList<T> list, ToLongFunction<T> key, boolean descending) {
+        int n = list.size();
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsLong(list.get(i)) ^ Long.MIN_VALUE;
+            if (descending) {
+                keys[i] = ~keys[i];
+            }
+        }
+        radixSortByUnsignedKeys(list, keys, Long.BYTES);
+    }
+    
+    /**
+     * Sort using LSD Radix Sort on a double key, ascending
+     * @param list List to sort
+     * @param key Extracts the sort key from an element
+     * @param <T> Element type
+     */
+    public static <T> void radixSortByDouble(MyArrayList<T> list, ToDoubleFunction<T> key) {
+        radixSortByDouble(list, key, false);
+    }
+    
+    /**
+     * Sort using LSD Radix Sort on a double key.
+     * Orders keys exactly like {@link Double#compare}: -0.0 before 0.0 and
+     * NaN after positive infinity. The sort is stable in both directions.
+     * Time Complexity: O(n) - at most 8 passes, fewer when key bytes are all equal
+     * Space Complexity: O(n) for key and element buffers
+     * @param list List to sort
+     * @param key Extracts the sort key from an element
+     * @param descending true to sort from the largest key to the smallest
+     * @param <T> Element type
+     */
+    public static <T> void radixSortByDouble(MyArrayList<T> list, ToDoubleFunction<T> key, boolean descending) {
+        int n = list.size();
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            // IEEE 754 bits order like sign-magnitude integers: flip all bits of
+            // negatives and only the sign bit of positives to get unsigned order
+            long bits = Double.doubleToLongBits(key.applyAsDouble(list.get(i)));
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+            if (descending) {
+                keys[i] = ~keys[i];
+            }
+        }
+        radixSortByUnsignedKeys(list, keys, Long.BYTES);
+    }
+    
+    /**
+     * Sort the positions of an array of long keys by the keys, using LSD
+     * Radix Sort. The keys themselves are not moved, so callers can visit
+     * parallel data in key order without boxing an index list.
+     * The sort is stable.
+     * Time Complexity: O(n) - at most 8 passes, fewer when key bytes are all equal
+     * Space Complexity: O(n) for key and index buffers
+     * @param keys Keys to sort by
+     * @return Indexes 0 to keys.length - 1 in ascending order of their keys
+     */
+    public static int[] radixSortedOrder(long[] keys) {
+        long[] unsigned = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            unsigned[i] = keys[i] ^ Long.MIN_VALUE;
+        }
+        return radixOrder(unsigned, Long.BYTES);
+    }
+    
+    /**
+     * Stable LSD radix sort of a list by precomputed keys compared as unsigned values
+     * @param list List to sort; keys[i] belongs to the element at index i
+     * @param keys Unsigned sort keys, used as scratch space
+     * @param keyBytes Number of low-order key bytes that can be non-zero
+     */
+    private static <T> void radixSortByUnsignedKeys(MyArrayList<T> list, long[] keys, int keyBytes) {
+        if (keys.length < 2) {
+            return;
+        }
+        int[] order = radixOrder(keys, keyBytes);
+        AlgorithmUtils.copyInto(permute(list.toArray(), order), list);
+    }
+    
+    /**
+     * Stable LSD radix sort of an index permutation by unsigned keys
+     * @param keys Unsigned sort keys, reordered along with the indexes
+     * @param keyBytes Number of low-order key bytes that can be non-zero
+     * @return Indexes 0 to keys.length - 1 in ascending order of their keys
+     */
+    private static int[] radixOrder(long[] keys, int keyBytes) {
+        int n = keys.length;
+        int[] order = identityOrder(n);
+        if (n < 2) {
+            return order;
+        }
+        
+        // Histograms for every byte position in a single pass over the keys
+        int[][] counts = new int[keyBytes][RADIX];
+        for (int i = 0; i < n; i++) {
+            long k = keys[i];
+            for (int b = 0; b < keyBytes; b++) {
+                counts[b][(int) (k >>> (b * 8)) & (RADIX - 1)]++;
+            }
+        }
+        
+        int[] orderBuffer = new int[n];
+        long[] keysBuffer = new long[n];
+        
+        for (int b = 0; b < keyBytes; b++) {
+            int[] count = counts[b];
+            int shift = b * 8;
+            
+            // Every key has the same byte here, so this pass would not move anything
+            if (count[(int) (keys[0] >>> shift) & (RADIX - 1)] == n) {
+                continue;
+            }
+            
+            // Turn counts into starting offsets
+            int offset = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = offset;
+                offset += c;
+            }
+            
+            for (int i = 0; i < n; i++) {
+                int d = (int) (keys[i] >>> shift) & (RADIX - 1);
+                int target = count[d]++;
+                keysBuffer[target] = keys[i];
+                orderBuffer[target] = order[i];
+            }
+            
+            // Swap roles of the arrays for the next pass
+            long[] swapKeys = keys;
+            keys = keysBuffer;
+            keysBuffer = swapKeys;
+            int[] swapOrder = order;
+            order = orderBuffer;
+            orderBuffer = swapOrder;
+        }
+        return order;
+    }
+    
+    /**
+     * Sort using Multikey Quick Sort on a string key, ignoring case.
+     * Gives the same order as String.CASE_INSENSITIVE_ORDER on the keys, but
+     * every key is case-folded once up front and then partitioned one
+     * character at a time, so shared prefixes are never compared twice.
+     * Time Complexity: O(n log n + total length of distinguishing prefixes) average case
+     * Space Complexity: O(n + total key length) for the folded keys
+     * @param list List to sort
+     * @param key Extracts the string to sort by from an element
+     * @param <T> Element type
+     */
+    public static <T> void multikeyQuickSort(MyArrayList<T> list, Function<T, String> key) {
+        multikeyQuickSort(list, key, true);
+    }
+    
+    /**
+     * Sort using Multikey Quick Sort on a string key
+     * Time Complexity: O(n log n + total length of distinguishing prefixes) average case
+     * Space Complexity: O(n + total key length) for the key copies
+     * @param list List to sort
+     * @param key Extracts the string to sort by from an element
+     * @param ignoreCase true for String.CASE_INSENSITIVE_ORDER, false for String.compareTo order
+     * @param <T> Element type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void multikeyQuickSort(MyArrayList<T> list, Function<T, String> key, boolean ignoreCase) {
+        Object[] elements = list.toArray();
+        char[][] keys = new char[elements.length][];
+        for (int i = 0; i < elements.length; i++) {
+            String text = key.apply((T) elements[i]);
+            keys[i] = ignoreCase ? AlgorithmUtils.foldCase(text) : text.toCharArray();
+        }
+        
+        int[] order = identityOrder(elements.length);
+        multikeyQuickSort(keys, order, 0, elements.length, 0);
+        AlgorithmUtils.copyInto(permute(elements, order), list);
+    }
+    
+    /**
+     * Sort the positions of an array of strings by the strings, using
+     * Multikey Quick Sort. The strings themselves are not moved, so callers
+     * can visit parallel data in key order without boxing an index list.
+     * Time Complexity: O(n log n + total length of distinguishing prefixes) average case
+     * Space Complexity: O(n + total key length) for the key copies
+     * @param keys Strings to sort by
+     * @param ignoreCase true for String.CASE_INSENSITIVE_ORDER, false for String.compareTo order
+     * @return Indexes 0 to keys.length - 1 in ascending order of their strings
+     */
+    public static int[] multikeySortedOrder(String[] keys, boolean ignoreCase) {
+        int n = keys.length;
+        char[][] chars = new char[n][];
+        for (int i = 0; i < n; i++) {
+            chars[i] = ignoreCase ? AlgorithmUtils.foldCase(keys[i]) : keys[i].toCharArray();
+        }
+        
+        int[] order = identityOrder(n);
+        multikeyQuickSort(chars, order, 0, n, 0);
+        return order;
+    }
+    
+    /**
+     * Sort books in {@link Book#BY_TITLE} order using Multikey Quick Sort.
+     * Titles starting with a digit are moved behind all others in one pass,
+     * then each group is sorted by its case-folded titles.
+     * Time Complexity: O(n log n + total length of distinguishing prefixes) average case
+     * Space Complexity: O(n + total title length) for the folded keys
+     * @param list List of books to sort
+     */
+    public static void sortByTitle(MyArrayList<Book> list) {
+        int n = list.size();
+        Object[] elements = new Object[n];
+        char[][] keys = new char[n][];
+        
+        // Fill from the front for letter-leading titles and from the back for digit-leading ones
+        int front = 0;
+        int back = n;
+        for (int i = 0; i < n; i++) {
+            Book book = list.get(i);
+            String title = book.getTitle();
+            int slot = !title.isEmpty() && Character.isDigit(title.charAt(0)) ? --back : front++;
+            elements[slot] = book;
+            keys[slot] = AlgorithmUtils.foldCase(title);
+        }
+        
+        int[] order = identityOrder(n);
+        multikeyQuickSort(keys, order, 0, front, 0);
+        multikeyQuickSort(keys, order, front, n, 0);
+        AlgorithmUtils.copyInto(permute(elements, order), list);
+    }
+    
+    /**
+     * Sort books in {@link Book#BY_AUTHOR} order using Multikey Quick Sort
+     * @param list List of books to sort
+     */
+    public static void sortByAuthor(MyArrayList<Book> list) {
+        multikeyQuickSort(list, Book::getAuthor);
+    }
+    
+    /**
+     * Recursive Multikey Quick Sort of keys[from, to), all equal before position depth.
+     * order[i] records where the key now at i came from and moves with it.
+     */
+    private static void multikeyQuickSort(char[][] keys, int[] order, int from, int to, int depth) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            int pivot = medianOfThree(charAt(keys[from], depth),
+                                      charAt(keys[(from + to) >>> 1], depth),
+                                      charAt(keys[to - 1], depth));
+            
+            // Three-way partition on the character at depth: [from, lt) < pivot, [lt, gt] == pivot, (gt, to) > pivot
+            int lt = from;
+            int i = from;
+            int gt = to - 1;
+            while (i <= gt) {
+                int c = charAt(keys[i], depth);
+                if (c < pivot) {
+                    swapKeyed(keys, order, lt++, i++);
+                } else if (c > pivot) {
+                    swapKeyed(keys, order, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            
+            multikeyQuickSort(keys, order, from, lt, depth);
+            multikeyQuickSort(keys, order, gt + 1, to, depth);
+            
+            // Keys that all ended here are identical; otherwise continue on the next character
+            if (pivot < 0) {
+                return;
+            }
+            from = lt;
+            to = gt + 1;
+            depth++;
+        }
+        
+        // Insertion sort for small ranges, comparing from the first unresolved character
+        for (int i = from + 1; i < to; i++) {
+            char[] key = keys[i];
+            int index = order[i];
+            int j = i - 1;
+            
+            while (j >= from && compareFrom(keys[j], key, depth) > 0) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            
+            keys[j + 1] = key;
+            order[j + 1] = index;
+        }
+    }
+    
+    /**
+     * Character of a key at a position, or -1 past its end so shorter keys sort first
+     */
+    private static int charAt(char[] key, int depth) {
+        return depth < key.length ? key[depth] : -1;
+    }
+    
+    /**
+     * Compare two keys starting at a position, with a key that is a prefix of the other first
+     */
+    private static int compareFrom(char[] a, char[] b, int depth) {
+        int length = Math.min(a.length, b.length);
+        for (int i = depth; i < length; i++) {
+            if (a[i] != b[i]) {
+                return a[i] - b[i];
+            }
+        }
+        return a.length - b.length;
+    }
+    
+    /**
+     * Middle value of three
+     */
+    private static int medianOfThree(int a, int b, int c) {
+        if (a < b) {
+            return b < c ? b : Math.max(a, c);
+        }
+        return a < c ? a : Math.max(b, c);
+    }
+    
+    /**
+     * Swap two keys together with their elements
+     */
+    private static void swapKeyed(char[][] keys, int[] order, int i, int j) {
+        char[] key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int index = order[i];
+        order[i] = order[j];
+        order[j] = index;
+    }
+    
+    /**
+     * Sort by precomputed keys (decorate-sort-undecorate).
+     * The key of every element is computed exactly once, an index permutation
+     * is merge sorted by comparing the keys, and the permutation is then
+     * applied to the list. Worth it when a comparator does expensive work on
+     * every call, e.g. {@link Book#TITLE_SORT_KEY} in place of {@link Book#BY_TITLE}.
+     * The sort is stable.
+     * Time Complexity: O(n) key extractions plus O(n log n) key comparisons
+     * Space Complexity: O(n) for keys, permutation and scratch buffer
+     * @param list List to sort
+     * @param key Extracts the sort key from an element
+     * @param <T> Element type
+     * @param <K> Key type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K extends Comparable<? super K>> void sortByKey(MyArrayList<T> list, Function<? super T, K> key) {
+        Object[] elements = list.toArray();
+        int n = elements.length;
+        if (n < 2) {
+            return;
+        }
+        
+        // Decorate: one key per element, addressed by original position
+        Object[] keys = new Object[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.apply((T) elements[i]);
+        }
+        
+        // Sort the permutation only; elements are not touched until the end
+        int[] order = identityOrder(n);
+        Comparator<K> natural = (a, b) -> a.compareTo(b);
+        new KeyedIndexSorter<>(keys, natural).sort(order, 0, n);
+        
+        // Undecorate: apply the permutation
+        AlgorithmUtils.copyInto(permute(elements, order), list);
+    }
+    
+    /**
+     * Sort the positions of an array of keys by the keys (stable merge sort).
+     * The keys themselves are not moved, so callers can visit parallel data
+     * in key order without boxing an index list.
+     * Time Complexity: O(n log n)
+     * Space Complexity: O(n) for the permutation and scratch buffer
+     * @param keys Keys to sort by
+     * @param comparator Comparator for key comparison
+     * @param <K> Key type
+     * @return Indexes 0 to keys.length - 1 in ascending order of their keys
+     */
+    public static <K> int[] sortedOrder(K[] keys, Comparator<? super K> comparator) {
+        int[] order = identityOrder(keys.length);
+        new KeyedIndexSorter<K>(keys, comparator).sort(order, 0, keys.length);
+        return order;
+    }
+    
+    /**
+     * Indexes 0 to n - 1
+     */
+    private static int[] identityOrder(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+    
+    /**
+     * Elements rearranged so that position i holds elements[order[i]]
+     */
+    private static Object[] permute(Object[] elements, int[] order) {
+        Object[] result = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = elements[order[i]];
+        }
+        return result;
+    }
+    
+    /**
+     * Stable merge sort of an index permutation by the keys the indexes refer to
+     */
+    private static class KeyedIndexSorter<K> {
+        private final Object[] keys;
+        private final Comparator<? super K> comparator;
+        private final int[] scratch;
+        
+        KeyedIndexSorter(Object[] keys, Comparator<? super K> comparator) {
+            this.keys = keys;
+            this.comparator = comparator;
+            this.scratch = new int[keys.length];
+        }
+        
+        void sort(int[] order, int from, int to) {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(order, from, to);
+                return;
+            }
+            
+            int middle = (from + to) >>> 1;
+            sort(order, from, middle);
+            sort(order, middle, to);
+            
+            // Already in order - nothing to merge
+            if (compare(order[middle - 1], order[middle]) <= 0) {
+                return;
+            }
+            
+            // Buffer the left half and merge back into place
+            System.arraycopy(order, from, scratch, from, middle - from);
+            int i = from;
+            int j = middle;
+            int k = from;
+            while (i < middle && j < to) {
+                if (compare(scratch[i], order[j]) <= 0) {
+                    order[k++] = scratch[i++];
+                } else {
+                    order[k++] = order[j++];
+                }
+            }
+            
+            // Copy remaining elements; the rest of the right half is already in place
+            System.arraycopy(scratch, i, order, k, middle - i);
+        }
+        
+        private void insertionSort(int[] order, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                int index = order[i];
+                int j = i - 1;
+                
+                while (j >= from && compare(order[j], index) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                
+                order[j + 1] = index;
+            }
+        }
+        
+        @SuppressWarnings("unchecked")
+        private int compare(int a, int b) {
+            return comparator.compare((K) keys[a], (K) keys[b]);
+        }
+    }
+    
+    /**
+     * Get the k smallest elements without sorting the whole list.
+     * Keeps a max-heap of the best k elements seen so far; each later element
+     * only has to beat the heap's root. The list itself is not modified.
+     * Time Complexity: O(n log k)
+     * Space Complexity: O(k)
+     * @param list List to choose from
+     * @param k Number of elements wanted
+     * @param comparator Comparator for element comparison; use a reversed one for the largest
+     * @param <T> Element type
+     * @return New list of the min(k, size) smallest elements in ascending order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MyArrayList<T> topK(MyArrayList<T> list, int k, Comparator<T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative: " + k);
+        }
+        
+        int n = list.size();
+        int capacity = Math.min(k, n);
+        Object[] heap = new Object[capacity];
+        int heapSize = 0;
+        
+        for (int i = 0; i < n && capacity > 0; i++) {
+            T element = list.get(i);
+            if (heapSize < capacity) {
+                // Still filling: sift up into the max-heap
+                int child = heapSize++;
+                while (child > 0) {
+                    int parent = (child - 1) >>> 1;
+                    if (comparator.compare((T) heap[parent], element) >= 0) {
+                        break;
+                    }
+                    heap[child] = heap[parent];
+                    child = parent;
+                }
+                heap[child] = element;
+            } else if (comparator.compare(element, (T) heap[0]) < 0) {
+                // Smaller than the worst kept element: replace the root
+                heap[0] = element;
+                siftDown(heap, 0, heapSize, 0, comparator);
+            }
+        }
+        
+        // The heap holds the answer; heap sort it in place into ascending order
+        for (int i = heapSize - 1; i > 0; i--) {
+            swapArray(heap, 0, i);
+            siftDown(heap, 0, i, 0, comparator);
+        }
+        
+        MyArrayList<T> result = new MyArrayList<>(heapSize);
+        for (int i = 0; i < heapSize; i++) {
+            result.add((T) heap[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Find the element that would be at index k if the list were sorted (Introselect).
+     * Partially reorders the list: afterwards the element at index k is in its
+     * sorted position, no element before it is greater and no element after it is smaller.
+     * Quickselect with three-way partitioning around a median-of-three pivot, falling
+     * back to heap sort of the remaining range if partitioning keeps going badly.
+     * Time Complexity: O(n) average case, O(n log n) worst case
+     * Space Complexity: O(n) for the working array
+     * @param list List to select from (reordered)
+     * @param k Zero-based rank of the wanted element
+     * @param comparator Comparator for element comparison
+     * @param <T> Element type
+     * @return The k-th smallest element
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T select(MyArrayList<T> list, int k, Comparator<T> comparator) {
+        int n = list.size();
+        if (k < 0 || k >= n) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + n);
+        }
+        
+        Object[] array = list.toArray();
+        int from = 0;
+        int to = n;
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(n));
+        
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSortArray(array, from, to, comparator);
+                from = to;
+                break;
+            }
+            
+            int middle = (from + to) >>> 1;
+            orderPair(array, from, middle, comparator);
+            orderPair(array, middle, to - 1, comparator);
+            orderPair(array, from, middle, comparator);
+            
+            long bounds = threeWayPartition(array, from, to, (T) array[middle], comparator);
+            int equalStart = (int) (bounds >>> 32);
+            int equalEnd = (int) bounds;
+            
+            // Continue only in the part that contains rank k
+            if (k < equalStart) {
+                to = equalStart;
+            } else if (k >= equalEnd) {
+                from = equalEnd;
+            } else {
+                from = to;   // k landed among elements equal to the pivot
+            }
+        }
+        if (from < to) {
+            insertionSortArray(array, from, to, comparator);
+        }
+        
+        AlgorithmUtils.copyInto(array, list);
+        return (T) array[k];
+    }
+    
     /**
      * Sort using Heap Sort with natural ordering
      * @param list List to sort
@@ -0,0 +1,224 @@
+package bookstore.datastructures;
+
+import java.util.Arrays;
+
+/**
+ * Dynamic array of primitive longs.
+ * Same growth strategy as {@link MyArrayList} but without boxing, so values
+ * are stored contiguously and adding them produces no garbage.
+ */
+public class LongArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private long[] elements;
+    private int size;
+
+    /**
+     * Constructor with default capacity of 10
+     */
+    public LongArrayList() {
+        elements = new long[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Constructor with specified initial capacity
+     * @param initialCapacity The initial capacity for the array
+     */
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        elements = new long[initialCapacity];
+        size = 0;
+    }
+
+    /**
+     * Add a value to the end of the list
+     * @param value Value to be added
+     */
+    public void add(long value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * Add a value at a specific index
+     * @param index Index where value should be added
+     * @param value Value to be added
+     */
+    public void add(int index, long value) {
+        validateIndexForAdd(index);
+        ensureCapacity(size + 1);
+
+        // Shift elements right to make space
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Add all values to the end of the list with a single copy
+     * @param values Values to be added
+     */
+    public void addAll(long... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Add all values of another list to the end of this list with a single copy
+     * @param other List whose values should be added
+     */
+    public void addAll(LongArrayList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Get value at specified index
+     * @param index The index of the value
+     * @return Value at the specified index
+     */
+    public long get(int index) {
+        validateIndexForAccess(index);
+        return elements[index];
+    }
+
+    /**
+     * Set the value at specified index
+     * @param index The index of the value to replace
+     * @param value New value to store
+     * @return Previous value at the index
+     */
+    public long set(int index, long value) {
+        validateIndexForAccess(index);
+        long oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Remove value at specified index
+     * @param index The index of the value to remove
+     * @return The removed value
+     */
+    public long removeAt(int index) {
+        validateIndexForAccess(index);
+        long oldValue = elements[index];
+
+        // Shift elements left to fill the gap
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, numMoved);
+        }
+
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Clear all values from the list
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Get current size of the list
+     * @return Number of values in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the list is empty
+     * @return true if list contains no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check if list contains the specified value
+     * @param value Value to check for
+     * @return true if the value is present
+     */
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Find the index of the first occurrence of a value
+     * @param value Value to find
+     * @return Index of value or -1 if not found
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sort the values in ascending order in place
+     * Time Complexity: O(n log n)
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Binary search for a value; the list must be sorted in ascending order
+     * Time Complexity: O(log n)
+     * @param value Value to find
+     * @return Index of the value, or -(insertion point) - 1 if not found
+     */
+    public int binarySearch(long value) {
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    /**
+     * Copy the values into a new array of exactly the list's size
+     * @return Array containing all values in order
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Ensure the array has enough capacity to add values
+     * @param minCapacity Minimum required capacity
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            // Grow by doubling - standard growth strategy for dynamic arrays
+            int newCapacity = Math.max(elements.length * 2, minCapacity);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    /**
+     * Validate index for add operations
+     * @param index Index to validate
+     */
+    private void validateIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Validate index for access/remove operations
+     * @param index Index to validate
+     */
+    private void validateIndexForAccess(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package bookstore.datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Lock-free multi-producer, single-consumer FIFO queue.
+ * Producers link new nodes at the tail with the Michael-Scott CAS protocol, so
+ * any number of threads may call {@link #enqueue} concurrently and none of them
+ * can be blocked by another stalling mid-operation. Only one thread at a time
+ * may consume (dequeue, poll, peek, drainTo, size, clear), which lets the head
+ * be a plain field with no CAS on the consumer side.
+ * Each successful enqueue takes effect at the CAS that links its node, and each
+ * poll at its read of the head's successor, so operations are linearizable.
+ * @param <T> Type of elements stored in the queue
+ */
+public class MpscQueue<T> {
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(MpscQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Node<T> head;              // Consumer-only; dummy node before the front element
+    private volatile Node<T> tail;     // Last or next-to-last node; updated by CAS
+
+    /**
+     * Node class for queue elements
+     * @param <T> Type of data stored in node
+     */
+    private static class Node<T> {
+        private T data;
+        private volatile Node<T> next;
+
+        public Node(T data) {
+            this.data = data;
+        }
+    }
+
+    /**
+     * Constructor for empty queue
+     */
+    public MpscQueue() {
+        Node<T> dummy = new Node<>(null);
+        head = dummy;
+        tail = dummy;
+    }
+
+    /**
+     * Add an element to the end of the queue. Safe to call from any thread.
+     * @param item Element to add (must not be null)
+     */
+    public void enqueue(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item cannot be null");
+        }
+
+        Node<T> node = new Node<>(item);
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+
+            if (next == null) {
+                // Linearization point: linking the node after the current last node
+                if (NEXT.compareAndSet(last, null, node)) {
+                    // Swing the tail; if this fails another thread already helped
+                    TAIL.compareAndSet(this, last, node);
+                    return;
+                }
+            } else {
+                // Tail is lagging behind, help move it forward and retry
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Remove and return the element at the front of queue, if any.
+     * Consumer thread only.
+     * @return The front element, or null if the queue is empty
+     */
+    public T poll() {
+        Node<T> next = head.next;
+        if (next == null) {
+            return null;
+        }
+
+        T item = next.data;
+        next.data = null;   // next becomes the new dummy; clear reference to help GC
+        head = next;
+        return item;
+    }
+
+    /**
+     * Remove and return the element at the front of queue.
+     * Consumer thread only.
+     * @return The front element
+     * @throws IllegalStateException if queue is empty
+     */
+    public T dequeue() {
+        T item = poll();
+        if (item == null) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return item;
+    }
+
+    /**
+     * Return but don't remove the front element.
+     * Consumer thread only.
+     * @return The front element
+     * @throws IllegalStateException if queue is empty
+     */
+    public T peek() {
+        Node<T> next = head.next;
+        if (next == null) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return next.data;
+    }
+
+    /**
+     * Move up to max elements from the front of the queue to the end of a list.
+     * Consumer thread only.
+     * @param target List to append the elements to
+     * @param max Maximum number of elements to move
+     * @return Number of elements moved
+     */
+    public int drainTo(MyArrayList<? super T> target, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("Max cannot be negative: " + max);
+        }
+
+        Node<T> current = head;
+        int count = 0;
+        while (count < max) {
+            Node<T> next = current.next;
+            if (next == null) {
+                break;
+            }
+            target.add(next.data);
+            next.data = null;
+            current = next;
+            count++;
+        }
+        head = current;
+        return count;
+    }
+
+    /**
+     * Check if queue is empty.
+     * Consumer thread only.
+     * @return true if queue contains no elements
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Count the elements in the queue by walking it; O(n), meant for monitoring.
+     * Consumer thread only. Concurrent enqueues may or may not be counted.
+     * @return Number of elements
+     */
+    public int size() {
+        int count = 0;
+        for (Node<T> node = head.next; node != null; node = node.next) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Remove all elements currently in the queue.
+     * Consumer thread only.
+     */
+    public void clear() {
+        while (poll() != null) {
+            // Drop elements one at a time so concurrent enqueues are never lost
+        }
+    }
+}
@@ -53,6 +53,19 @@ public class MyArrayList<T> {
         size++;
     }
     
+    /**
+     * Append a range of a raw array with a single copy.
+     * Package-private so other data structures can bulk-transfer their storage.
+     * @param source Array holding elements of type T
+     * @param offset Index of the first element to copy
+     * @param length Number of elements to copy
+     */
+    void addRange(Object[] source, int offset, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(source, offset, elements, size, length);
+        size += length;
+    }
+
     /**
      * Get element at specified index
      * @param index The index of the element
@@ -149,6 +162,16 @@ public class MyArrayList<T> {
         return -1;
     }
     
+    /**
+     * Copy the elements into a new array of exactly the list's size
+     * @return Array containing all elements in order
+     */
+    public Object[] toArray() {
+        Object[] copy = new Object[size];
+        System.arraycopy(elements, 0, copy, 0, size);
+        return copy;
+    }
+    
     /**
      * Ensure the array has enough capacity to add elements
      * @param minCapacity Minimum required capacity
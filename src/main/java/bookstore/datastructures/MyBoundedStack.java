@@ -0,0 +1,116 @@
+package bookstore.datastructures;
+
+/**
+ * Custom implementation of a Stack with a maximum depth, backed by a circular array.
+ * Follows LIFO (Last-In-First-Out) principle.
+ * When the stack is full, pushing a new element silently drops the oldest one
+ * (the bottom of the stack), so memory use never exceeds the configured depth.
+ * @param <T> Type of elements stored in the stack
+ */
+public class MyBoundedStack<T> {
+    private final Object[] elements;
+    private int bottom;    // Index of the oldest element
+    private int size;      // Tracks number of elements
+
+    /**
+     * Constructor for empty stack
+     * @param maxDepth Maximum number of elements kept
+     */
+    public MyBoundedStack(int maxDepth) {
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("Max depth must be positive: " + maxDepth);
+        }
+        elements = new Object[maxDepth];
+        bottom = 0;
+        size = 0;
+    }
+
+    /**
+     * Add an element to the top of the stack, evicting the oldest element if full
+     * @param item Element to add
+     */
+    public void push(T item) {
+        if (size == elements.length) {
+            // Overwrite the oldest slot and move the bottom up by one
+            elements[bottom] = item;
+            bottom = wrap(bottom + 1);
+        } else {
+            elements[wrap(bottom + size)] = item;
+            size++;
+        }
+    }
+
+    /**
+     * Remove and return the element at the top of stack
+     * @return The top element
+     * @throws IllegalStateException if stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Stack is empty");
+        }
+
+        int top = wrap(bottom + size - 1);
+        T item = (T) elements[top];
+        elements[top] = null;  // Clear reference to help GC
+        size--;
+        return item;
+    }
+
+    /**
+     * Return but don't remove the top element
+     * @return The top element
+     * @throws IllegalStateException if stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Stack is empty");
+        }
+
+        return (T) elements[wrap(bottom + size - 1)];
+    }
+
+    /**
+     * Check if stack is empty
+     * @return true if stack contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of elements in the stack
+     * @return Number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the maximum number of elements the stack keeps
+     * @return Maximum depth
+     */
+    public int maxDepth() {
+        return elements.length;
+    }
+
+    /**
+     * Clear all elements from the stack
+     */
+    public void clear() {
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = null;
+        }
+        bottom = 0;
+        size = 0;
+    }
+
+    /**
+     * Wrap an index into the array bounds
+     */
+    private int wrap(int index) {
+        return index >= elements.length ? index - elements.length : index;
+    }
+}
@@ -0,0 +1,262 @@
+package bookstore.datastructures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Lock-free sorted index that can be searched while it is being filled.
+ * Elements sit in a skip list: level 0 links every element in comparator
+ * order and each higher level links a random half of the level below it,
+ * so a search drops down from the sparse top levels in O(log n) expected
+ * steps. Writers link a new node bottom-up, one compareAndSet per level,
+ * and retry only the level whose CAS lost a race; no thread ever holds a
+ * lock. Readers only follow next pointers, so they never block, retry or
+ * write shared state, and any number of them can run beside the writers.
+ * An element becomes visible at the CAS that links it into level 0, so
+ * inserts and searches are linearizable. Elements cannot be removed, which
+ * keeps every node reachable from the moment it is linked.
+ * Elements that compare equal are kept in the order they were linked.
+ * @param <T> Type of elements stored in the list
+ */
+public class MyConcurrentSkipList<T> {
+    private static final int MAX_LEVEL = 32;
+
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+    private static final VarHandle HEIGHT;
+    private static final VarHandle SIZE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEIGHT = lookup.findVarHandle(MyConcurrentSkipList.class, "height", int.class);
+            SIZE = lookup.findVarHandle(MyConcurrentSkipList.class, "size", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);   // Sentinel before every element
+    private volatile int height = 1;   // Levels in use; searches start at the top one
+    private volatile int size;
+
+    /**
+     * Node class for list elements.
+     * next[i] is the following node on level i; slots are read and written
+     * through the NEXT handle once the node is linked.
+     * @param <T> Type of data stored in node
+     */
+    private static class Node<T> {
+        private final T value;
+        private final Node<T>[] next;
+
+        @SuppressWarnings("unchecked")
+        public Node(T value, int levels) {
+            this.value = value;
+            this.next = (Node<T>[]) new Node<?>[levels];
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> successor(int level) {
+            return (Node<T>) NEXT.getAcquire(next, level);
+        }
+
+        boolean casNext(int level, Node<T> expected, Node<T> node) {
+            return NEXT.compareAndSet(next, level, expected, node);
+        }
+    }
+
+    /**
+     * Constructor for empty list
+     * @param comparator Comparator defining the sort order
+     */
+    public MyConcurrentSkipList(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Insert an element after any elements that compare equal to it.
+     * Safe to call from any thread.
+     * Time Complexity: O(log n) expected, plus retries for lost races
+     * @param element Element to insert (must not be null)
+     */
+    public void insert(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+
+        int levels = randomLevels();
+        raiseHeight(levels);
+        @SuppressWarnings("unchecked")
+        Node<T>[] preds = (Node<T>[]) new Node<?>[levels];
+        @SuppressWarnings("unchecked")
+        Node<T>[] succs = (Node<T>[]) new Node<?>[levels];
+        Node<T> node = new Node<>(element, levels);
+
+        // Linearization point: linking the node into level 0
+        do {
+            findInsertionPoint(element, preds, succs);
+            node.next[0] = succs[0];
+        } while (!preds[0].casNext(0, succs[0], node));
+        SIZE.getAndAdd(this, 1);
+
+        // Higher levels are only shortcuts, so linking them late is harmless
+        for (int level = 1; level < levels; level++) {
+            while (true) {
+                NEXT.setRelease(node.next, level, succs[level]);
+                if (preds[level].casNext(level, succs[level], node)) {
+                    break;
+                }
+                findInsertionPoint(element, preds, succs);
+            }
+        }
+    }
+
+    /**
+     * Find the first element that compares equal to a probe.
+     * Safe to call from any thread; never blocks.
+     * Time Complexity: O(log n) expected
+     * @param probe Element carrying the key to look for
+     * @return The first matching element, or null if there is none
+     */
+    public T find(T probe) {
+        Node<T> node = lowerBound(probe);
+        return node != null && comparator.compare(node.value, probe) == 0 ? node.value : null;
+    }
+
+    /**
+     * Check if an element comparing equal to a probe is present
+     * @param probe Element carrying the key to look for
+     * @return true if a matching element is present
+     */
+    public boolean contains(T probe) {
+        return find(probe) != null;
+    }
+
+    /**
+     * Get elements in an inclusive range, in sorted order.
+     * Safe to call from any thread; never blocks. Elements inserted while
+     * the range is read may or may not be included.
+     * Time Complexity: O(log n + k) expected, where k is the number of elements returned
+     * Space Complexity: O(k)
+     * @param from Smallest element to include
+     * @param to Largest element to include
+     * @param limit Maximum number of elements to return
+     * @return Up to limit elements with from <= element <= to
+     */
+    public MyArrayList<T> range(T from, T to, int limit) {
+        return scan(from, element -> comparator.compare(element, to) <= 0, limit);
+    }
+
+    /**
+     * Get elements in sorted order starting at the first element not less
+     * than from, for as long as they satisfy a condition. The condition must
+     * hold for a leading run of that order, e.g. "title starts with a prefix"
+     * when the list is sorted by title.
+     * Safe to call from any thread; never blocks.
+     * Time Complexity: O(log n + k) expected, where k is the number of elements returned
+     * Space Complexity: O(k)
+     * @param from Element to start from
+     * @param condition Test that stops the scan at the first element failing it
+     * @param limit Maximum number of elements to return
+     * @return Up to limit elements in sorted order
+     */
+    public MyArrayList<T> scan(T from, Predicate<? super T> condition, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative: " + limit);
+        }
+        MyArrayList<T> result = new MyArrayList<>(Math.min(limit, 16));
+        for (Node<T> node = lowerBound(from); node != null && result.size() < limit; node = node.successor(0)) {
+            if (!condition.test(node.value)) {
+                break;
+            }
+            result.add(node.value);
+        }
+        return result;
+    }
+
+    /**
+     * Get every element in sorted order; a snapshot if no insert is running
+     * Time Complexity: O(n)
+     * @return Elements in sorted order
+     */
+    public MyArrayList<T> toList() {
+        MyArrayList<T> result = new MyArrayList<>();
+        for (Node<T> node = head.successor(0); node != null; node = node.successor(0)) {
+            result.add(node.value);
+        }
+        return result;
+    }
+
+    /**
+     * Get number of elements in the list; inserts still in progress may be missed
+     * @return Number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the list is empty
+     * @return true if the list contains no elements
+     */
+    public boolean isEmpty() {
+        return head.successor(0) == null;
+    }
+
+    /**
+     * First node whose element is not less than the probe, or null
+     */
+    private Node<T> lowerBound(T probe) {
+        Node<T> pred = head;
+        Node<T> curr = null;
+        for (int level = height - 1; level >= 0; level--) {
+            curr = pred.successor(level);
+            while (curr != null && comparator.compare(curr.value, probe) < 0) {
+                pred = curr;
+                curr = pred.successor(level);
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * Fill preds and succs with the last node not greater than the element,
+     * and the node after it, on each level the new node will occupy
+     */
+    private void findInsertionPoint(T element, Node<T>[] preds, Node<T>[] succs) {
+        Node<T> pred = head;
+        for (int level = height - 1; level >= 0; level--) {
+            Node<T> curr = pred.successor(level);
+            while (curr != null && comparator.compare(curr.value, element) <= 0) {
+                pred = curr;
+                curr = pred.successor(level);
+            }
+            if (level < preds.length) {
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+        }
+    }
+
+    /**
+     * Make sure searches start high enough to use a node with this many levels
+     */
+    private void raiseHeight(int levels) {
+        int current;
+        while ((current = height) < levels && !HEIGHT.compareAndSet(this, current, levels)) {
+            // Another insert raised it; check again
+        }
+    }
+
+    /**
+     * Number of levels for a new node: 1 with probability 1/2, 2 with 1/4, and so on
+     */
+    private static int randomLevels() {
+        int bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return Integer.numberOfTrailingZeros(bits) + 1;
+    }
+}
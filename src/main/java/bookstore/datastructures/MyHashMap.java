@@ -0,0 +1,211 @@
+package bookstore.datastructures;
+
+/**
+ * Custom implementation of a hash map using open addressing.
+ * Collisions are resolved with linear probing and removals use backward-shift
+ * deletion, so no tombstones accumulate and lookups stay O(1) expected.
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ */
+public class MyHashMap<K, V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;          // capacity - 1, capacity is always a power of two
+    private int threshold;     // resize when size exceeds this
+
+    /**
+     * Constructor sized for 16 entries before the first resize
+     */
+    public MyHashMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Constructor sized to hold the expected number of entries without resizing
+     * @param expectedSize Number of entries the map should hold
+     */
+    public MyHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        allocate(tableSizeFor((int) Math.ceil(expectedSize / LOAD_FACTOR)));
+    }
+
+    /**
+     * Associate a value with a key, replacing any previous value
+     * @param key Key (must not be null)
+     * @param value Value to store
+     * @return Previous value for the key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        validateKey(key);
+        int slot = findSlot(key);
+
+        if (keys[slot] != null) {
+            V oldValue = (V) values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Get the value associated with a key
+     * @param key Key to look up
+     * @return Value for the key, or null if not present
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        validateKey(key);
+        int slot = findSlot(key);
+        return keys[slot] == null ? null : (V) values[slot];
+    }
+
+    /**
+     * Check if the map contains a key
+     * @param key Key to check for
+     * @return true if the key is present
+     */
+    public boolean containsKey(K key) {
+        validateKey(key);
+        return keys[findSlot(key)] != null;
+    }
+
+    /**
+     * Remove the entry for a key
+     * @param key Key to remove
+     * @return Removed value, or null if the key was not present
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        validateKey(key);
+        int slot = findSlot(key);
+        if (keys[slot] == null) {
+            return null;
+        }
+
+        V oldValue = (V) values[slot];
+
+        // Backward-shift deletion: pull later entries of the probe run into the gap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != null) {
+            int home = hash(keys[next]) & mask;
+            // Move the entry if its home slot is not inside (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Get number of entries in the map
+     * @return Number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the map is empty
+     * @return true if map contains no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries from the map
+     */
+    public void clear() {
+        // Clear references to help GC
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Find the slot holding the key, or the empty slot where it would be inserted
+     */
+    private int findSlot(Object key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Spread the high bits of the hash code into the low bits used for indexing
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Rehash all entries into a table of the given capacity
+     */
+    private void resize(int newCapacity) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Allocate empty tables of the given power-of-two capacity
+     */
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Smallest power of two that is at least the requested capacity
+     */
+    private static int tableSizeFor(int capacity) {
+        int n = Math.max(capacity, MIN_CAPACITY) - 1;
+        return Integer.highestOneBit(n) << 1;
+    }
+
+    /**
+     * Validate that a key is usable
+     * @param key Key to validate
+     */
+    private void validateKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package bookstore.datastructures;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+
+/**
+ * Always-sorted collection with positional access.
+ * Implemented as a treap: a binary search tree ordered by the comparator in
+ * which every node also carries a random priority, kept in heap order by
+ * rotations. That keeps the expected depth at O(log n) for any insertion
+ * order. Each node also stores the size of its subtree, which turns the
+ * tree into an order-statistic tree: the i-th element and the rank of a
+ * value can both be found on a single root-to-leaf path.
+ * Elements that compare equal are kept in insertion order.
+ * @param <T> Type of elements stored in the tree
+ */
+public class MyOrderStatisticTree<T> {
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+    
+    /**
+     * Tree node with its subtree size
+     */
+    private static class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+        
+        public Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+    
+    /**
+     * Constructor
+     * @param comparator Comparator defining the sort order
+     */
+    public MyOrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+    
+    /**
+     * Insert an element after any elements that compare equal to it
+     * Time Complexity: O(log n) expected
+     * @param element Element to insert
+     */
+    public void insert(T element) {
+        root = insert(root, new Node<>(element, random.nextInt()));
+    }
+    
+    /**
+     * Remove one element that equals the given element.
+     * The comparator locates the candidates; equals picks among elements
+     * that compare equal, so two books with the same title are told apart.
+     * Time Complexity: O(log n + d) expected, where d is the number of elements comparing equal
+     * @param element Element to remove
+     * @return true if an element was removed
+     */
+    public boolean remove(T element) {
+        int sizeBefore = size();
+        root = remove(root, element);
+        return size() < sizeBefore;
+    }
+    
+    /**
+     * Get element at a position in sorted order
+     * Time Complexity: O(log n) expected
+     * @param index Position in sorted order
+     * @return Element at that position
+     */
+    public T select(int index) {
+        validateIndex(index);
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+    
+    /**
+     * Count the elements that sort before a value, i.e. the position the
+     * value would be inserted at if it went before its equals
+     * Time Complexity: O(log n) expected
+     * @param value Value to rank
+     * @return Number of elements comparing less than the value
+     */
+    public int rank(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (comparator.compare(value, node.value) <= 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+    
+    /**
+     * Get the elements between two positions in sorted order, e.g. one page of a sorted view
+     * Time Complexity: O(log n + k) expected, where k is the number of elements returned
+     * Space Complexity: O(k + log n)
+     * @param fromIndex First position, inclusive
+     * @param toIndex Last position, exclusive
+     * @return Elements in sorted order
+     */
+    public MyArrayList<T> range(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+        }
+        MyArrayList<T> result = new MyArrayList<>(toIndex - fromIndex);
+        if (fromIndex == toIndex) {
+            return result;
+        }
+        
+        // Walk down to fromIndex, stacking every node still to be visited after it
+        MyStack<Node<T>> pending = new MyStack<>();
+        Node<T> node = root;
+        int index = fromIndex;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                pending.push(node);
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                pending.push(node);
+                break;
+            }
+        }
+        
+        // In-order traversal from there
+        while (result.size() < toIndex - fromIndex) {
+            Node<T> next = pending.pop();
+            result.add(next.value);
+            for (Node<T> child = next.right; child != null; child = child.left) {
+                pending.push(child);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get every element in sorted order
+     * Time Complexity: O(n)
+     * @return Elements in sorted order
+     */
+    public MyArrayList<T> toList() {
+        return range(0, size());
+    }
+    
+    /**
+     * Get number of elements in the tree
+     * @return Number of elements
+     */
+    public int size() {
+        return size(root);
+    }
+    
+    /**
+     * Check if the tree is empty
+     * @return true if the tree contains no elements
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+    
+    /**
+     * Remove all elements from the tree
+     */
+    public void clear() {
+        root = null;
+    }
+    
+    private Node<T> insert(Node<T> node, Node<T> fresh) {
+        if (node == null) {
+            return fresh;
+        }
+        if (comparator.compare(fresh.value, node.value) < 0) {
+            node.left = insert(node.left, fresh);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, fresh);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        updateSize(node);
+        return node;
+    }
+    
+    private Node<T> remove(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = comparator.compare(element, node.value);
+        if (comparison < 0) {
+            node.left = remove(node.left, element);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, element);
+        } else if (node.value.equals(element)) {
+            return merge(node.left, node.right);
+        } else {
+            // Rotations can leave equal elements on either side. Sizes are
+            // updated in place, so compare against the size before the call
+            int before = size(node.left);
+            node.left = remove(node.left, element);
+            if (size(node.left) == before) {
+                node.right = remove(node.right, element);
+            }
+        }
+        updateSize(node);
+        return node;
+    }
+    
+    /**
+     * Join two treaps where every element of the first sorts before the second
+     */
+    private Node<T> merge(Node<T> first, Node<T> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            updateSize(first);
+            return first;
+        }
+        second.left = merge(first, second.left);
+        updateSize(second);
+        return second;
+    }
+    
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        updateSize(node);
+        updateSize(left);
+        return left;
+    }
+    
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        updateSize(node);
+        updateSize(right);
+        return right;
+    }
+    
+    private static <T> void updateSize(Node<T> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+    
+    private static <T> int size(Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+    
+    /**
+     * Validate index for element access
+     * @param index Index to validate
+     */
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+}
@@ -1,100 +1,172 @@
 package bookstore.datastructures;
 
 /**
- * Custom implementation of Queue data structure using linked nodes.
+ * Custom implementation of Queue data structure using a circular array.
  * Follows FIFO (First-In-First-Out) principle.
+ * The backing array always has a power-of-two length so wrapping an index is
+ * a single mask, and it doubles when full unless the queue was created with a
+ * fixed capacity, in which case the rejection policy decides what happens.
  * @param <T> Type of elements stored in the queue
  */
 public class MyQueue<T> {
-    private Node<T> front;    // For removal (dequeue)
-    private Node<T> rear;     // For addition (enqueue)
-    private int size;         // Tracks number of elements
-    
-    /**
-     * Node class for queue elements
-     * @param <T> Type of data stored in node
-     */
-    private static class Node<T> {
-        private T data;
-        private Node<T> next;
-        
-        public Node(T data) {
-            this.data = data;
-            this.next = null;
-        }
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int head;                        // Index of the front element
+    private int size;                        // Tracks number of elements
+    private final int maxCapacity;           // Integer.MAX_VALUE when unbounded
+    private final RejectionPolicy rejectionPolicy;
+
+    /**
+     * What a fixed-capacity queue does with an element that arrives when full
+     */
+    public enum RejectionPolicy {
+        /** enqueue throws IllegalStateException, offer returns false */
+        THROW,
+        /** The new element is dropped */
+        DISCARD_NEWEST,
+        /** The front element is dropped to make room for the new one */
+        DISCARD_OLDEST
     }
-    
+
     /**
-     * Constructor for empty queue
+     * Constructor for empty, growable queue
      */
     public MyQueue() {
-        front = null;
-        rear = null;
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for empty, growable queue with an initial capacity
+     * @param initialCapacity Number of elements to allocate room for up front
+     */
+    public MyQueue(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        elements = new Object[tableSizeFor(initialCapacity)];
+        head = 0;
         size = 0;
+        maxCapacity = Integer.MAX_VALUE;
+        rejectionPolicy = RejectionPolicy.THROW;
     }
-    
+
+    /**
+     * Constructor for empty queue with a fixed capacity
+     * @param capacity Maximum number of elements the queue holds
+     * @param rejectionPolicy What to do when an element arrives while full
+     */
+    public MyQueue(int capacity, RejectionPolicy rejectionPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (rejectionPolicy == null) {
+            throw new IllegalArgumentException("Rejection policy cannot be null");
+        }
+        elements = new Object[tableSizeFor(capacity)];
+        head = 0;
+        size = 0;
+        maxCapacity = capacity;
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
     /**
      * Add an element to the end of the queue
      * @param item Element to add
+     * @throws IllegalStateException if the queue is full and uses the THROW policy
      */
     public void enqueue(T item) {
-        Node<T> newNode = new Node<>(item);
-        
-        if (isEmpty()) {
-            // If queue is empty, both front and rear point to new node
-            front = newNode;
-        } else {
-            // Otherwise, add to rear
-            rear.next = newNode;
+        if (!offer(item) && rejectionPolicy == RejectionPolicy.THROW) {
+            throw new IllegalStateException("Queue is full");
         }
-        
-        rear = newNode;  // Update rear pointer
+    }
+
+    /**
+     * Add an element to the end of the queue if there is room for it
+     * @param item Element to add
+     * @return true if the element was added
+     */
+    public boolean offer(T item) {
+        if (size == maxCapacity) {
+            if (rejectionPolicy != RejectionPolicy.DISCARD_OLDEST) {
+                return false;
+            }
+            dequeue();
+        } else if (size == elements.length) {
+            grow();
+        }
+
+        elements[(head + size) & (elements.length - 1)] = item;
         size++;
+        return true;
     }
-    
+
     /**
      * Remove and return the element at the front of queue
      * @return The front element
      * @throws IllegalStateException if queue is empty
      */
+    @SuppressWarnings("unchecked")
     public T dequeue() {
         if (isEmpty()) {
             throw new IllegalStateException("Queue is empty");
         }
-        
-        T item = front.data;
-        front = front.next;
-        
-        // If after removal the queue becomes empty, update rear pointer
-        if (front == null) {
-            rear = null;
-        }
-        
+
+        T item = (T) elements[head];
+        elements[head] = null;  // Clear reference to help GC
+        head = (head + 1) & (elements.length - 1);
         size--;
         return item;
     }
-    
+
     /**
      * Return but don't remove the front element
      * @return The front element
      * @throws IllegalStateException if queue is empty
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
         if (isEmpty()) {
             throw new IllegalStateException("Queue is empty");
         }
-        
-        return front.data;
+
+        return (T) elements[head];
+    }
+
+    /**
+     * Move up to max elements from the front of the queue to the end of a list.
+     * The elements are copied in at most two contiguous blocks.
+     * @param target List to append the elements to
+     * @param max Maximum number of elements to move
+     * @return Number of elements moved
+     */
+    public int drainTo(MyArrayList<? super T> target, int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("Max cannot be negative: " + max);
+        }
+
+        int count = Math.min(max, size);
+        int first = Math.min(count, elements.length - head);   // Up to the end of the array
+        int second = count - first;                             // Wrapped part at the start
+
+        target.addRange(elements, head, first);
+        target.addRange(elements, 0, second);
+        clearRange(head, first);
+        clearRange(0, second);
+
+        head = (head + count) & (elements.length - 1);
+        size -= count;
+        return count;
     }
-    
+
     /**
      * Check if queue is empty
      * @return true if queue contains no elements
      */
     public boolean isEmpty() {
-        return front == null;
+        return size == 0;
     }
-    
+
     /**
      * Get the number of elements in the queue
      * @return Number of elements
@@ -102,13 +174,57 @@ public class MyQueue<T> {
     public int size() {
         return size;
     }
-    
+
+    /**
+     * Get the maximum number of elements the queue accepts
+     * @return Fixed capacity, or Integer.MAX_VALUE for a growable queue
+     */
+    public int capacity() {
+        return maxCapacity;
+    }
+
     /**
      * Clear all elements from the queue
      */
     public void clear() {
-        front = null;
-        rear = null;
+        int first = Math.min(size, elements.length - head);
+        clearRange(head, first);
+        clearRange(0, size - first);
+        head = 0;
         size = 0;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Double the backing array, unwrapping the elements to start at index 0
+     */
+    private void grow() {
+        Object[] newElements = new Object[elements.length * 2];
+        int first = elements.length - head;
+        System.arraycopy(elements, head, newElements, 0, first);
+        System.arraycopy(elements, 0, newElements, first, head);
+        elements = newElements;
+        head = 0;
+    }
+
+    /**
+     * Clear references in a range to help GC
+     */
+    private void clearRange(int from, int length) {
+        for (int i = from; i < from + length; i++) {
+            elements[i] = null;
+        }
+    }
+
+    /**
+     * Smallest power of two that is at least the requested capacity
+     */
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= 1) {
+            return 1;
+        }
+        if (capacity > (1 << 30)) {
+            return 1 << 30;
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
@@ -0,0 +1,345 @@
+package bookstore.datastructures;
+
+import bookstore.algorithms.AlgorithmUtils;
+
+/**
+ * Custom implementation of a compressed trie (radix tree) keyed by strings.
+ * Keys are normalized to case-insensitive form, chains of single-child nodes
+ * are merged into one edge label, and children are kept sorted by their first
+ * character so a depth-first walk visits keys in lexicographic order.
+ * Several values may share the same key.
+ * @param <V> Type of values stored in the trie
+ */
+public class MyTrie<V> {
+    private final Node root;
+    private int size;          // Tracks number of stored values
+
+    /**
+     * Node class for trie entries
+     */
+    private static class Node {
+        private String label;          // Edge label leading into this node
+        private Node[] children;       // Sorted by first character of label
+        private int childCount;
+        private Object[] values;       // Values whose key ends at this node
+        private int valueCount;
+
+        public Node(String label) {
+            this.label = label;
+            this.children = null;
+            this.values = null;
+        }
+
+        /**
+         * Binary search the children for one whose label starts with c
+         * @return Child index, or -(insertion point) - 1 if absent
+         */
+        private int findChild(char c) {
+            int low = 0;
+            int high = childCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int position, Node child) {
+            if (children == null) {
+                children = new Node[2];
+            } else if (childCount == children.length) {
+                Node[] grown = new Node[childCount * 2];
+                System.arraycopy(children, 0, grown, 0, childCount);
+                children = grown;
+            }
+            System.arraycopy(children, position, children, position + 1, childCount - position);
+            children[position] = child;
+            childCount++;
+        }
+
+        private void removeChild(int position) {
+            System.arraycopy(children, position + 1, children, position, childCount - position - 1);
+            children[--childCount] = null;
+        }
+
+        private void addValue(Object value) {
+            if (values == null) {
+                values = new Object[1];
+            } else if (valueCount == values.length) {
+                Object[] grown = new Object[valueCount * 2];
+                System.arraycopy(values, 0, grown, 0, valueCount);
+                values = grown;
+            }
+            values[valueCount++] = value;
+        }
+    }
+
+    /**
+     * Constructor for empty trie
+     */
+    public MyTrie() {
+        root = new Node("");
+        size = 0;
+    }
+
+    /**
+     * Add a value under a key
+     * Time Complexity: O(k log σ) where k is the key length and σ the alphabet size
+     * @param key Key to store the value under (normalized internally)
+     * @param value Value to add
+     */
+    public void insert(String key, V value) {
+        String normalized = normalize(key);
+        Node node = root;
+        int i = 0;
+
+        while (i < normalized.length()) {
+            int index = node.findChild(normalized.charAt(i));
+
+            if (index < 0) {
+                // No edge starts with this character, hang the rest of the key off a new leaf
+                node.insertChild(-index - 1, new Node(normalized.substring(i)));
+                node = node.children[-index - 1];
+                i = normalized.length();
+                break;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, normalized, i);
+
+            if (common < child.label.length()) {
+                // Key diverges inside the edge, split it at the divergence point
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.insertChild(0, child);
+                node.children[index] = middle;
+                child = middle;
+            }
+
+            node = child;
+            i += common;
+        }
+
+        node.addValue(value);
+        size++;
+    }
+
+    /**
+     * Remove a value stored under a key (compared by identity or equals).
+     * Nodes left without values are pruned or merged into their only child,
+     * so the tree stays compressed.
+     * @param key Key the value was stored under
+     * @param value Value to remove
+     * @return true if the value was found and removed
+     */
+    public boolean remove(String key, V value) {
+        String normalized = normalize(key);
+        Node grandparent = null;
+        int grandparentIndex = -1;
+        Node parent = null;
+        int parentIndex = -1;
+        Node node = root;
+        int i = 0;
+
+        while (i < normalized.length()) {
+            int index = node.findChild(normalized.charAt(i));
+            if (index < 0) {
+                return false;
+            }
+            Node child = node.children[index];
+            if (!normalized.startsWith(child.label, i)) {
+                return false;
+            }
+            grandparent = parent;
+            grandparentIndex = parentIndex;
+            parent = node;
+            parentIndex = index;
+            node = child;
+            i += child.label.length();
+        }
+
+        for (int v = 0; v < node.valueCount; v++) {
+            Object stored = node.values[v];
+            if (stored == value || (stored != null && stored.equals(value))) {
+                System.arraycopy(node.values, v + 1, node.values, v, node.valueCount - v - 1);
+                node.values[--node.valueCount] = null;
+                size--;
+
+                if (node.valueCount == 0 && parent != null) {
+                    if (node.childCount == 0) {
+                        // Drop the empty leaf; its parent may be left as a bare link
+                        parent.removeChild(parentIndex);
+                        if (grandparent != null) {
+                            mergeWithOnlyChild(grandparent, grandparentIndex);
+                        }
+                    } else {
+                        mergeWithOnlyChild(parent, parentIndex);
+                    }
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Find values whose key starts with the given prefix, in key order
+     * Time Complexity: O(p log σ + limit) where p is the prefix length
+     * @param prefix Prefix to match (normalized internally)
+     * @param limit Maximum number of values to return
+     * @return List of at most limit values sorted by key
+     */
+    public MyArrayList<V> findByPrefix(String prefix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative: " + limit);
+        }
+
+        MyArrayList<V> result = new MyArrayList<>(Math.min(limit, 16));
+        String normalized = normalize(prefix);
+        Node node = root;
+        int i = 0;
+
+        while (i < normalized.length()) {
+            int index = node.findChild(normalized.charAt(i));
+            if (index < 0) {
+                return result;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, normalized, i);
+
+            // Prefix must either consume the whole edge or end somewhere inside it
+            if (common < child.label.length() && i + common < normalized.length()) {
+                return result;
+            }
+
+            node = child;
+            i += common;
+        }
+
+        collect(node, result, limit);
+        return result;
+    }
+
+    /**
+     * Check if any value is stored under the exact key
+     * @param key Key to look for
+     * @return true if the key is present
+     */
+    public boolean containsKey(String key) {
+        String normalized = normalize(key);
+        Node node = root;
+        int i = 0;
+
+        while (i < normalized.length()) {
+            int index = node.findChild(normalized.charAt(i));
+            if (index < 0 || !normalized.startsWith(node.children[index].label, i)) {
+                return false;
+            }
+            node = node.children[index];
+            i += node.label.length();
+        }
+
+        return node.valueCount > 0;
+    }
+
+    /**
+     * Get the number of values stored in the trie
+     * @return Number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if trie is empty
+     * @return true if trie contains no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear all values from the trie
+     */
+    public void clear() {
+        root.children = null;
+        root.childCount = 0;
+        root.values = null;
+        root.valueCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Normalize a key to case-insensitive form, folding characters the same
+     * way as String.compareToIgnoreCase
+     * @param key Key to normalize
+     * @return Normalized key
+     */
+    public static String normalize(String key) {
+        return new String(AlgorithmUtils.foldCase(key));
+    }
+
+    /**
+     * Count the nodes below the root; used by tests to check compression
+     * @return Number of non-root nodes
+     */
+    int nodeCount() {
+        return countNodes(root) - 1;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        for (int c = 0; c < node.childCount; c++) {
+            count += countNodes(node.children[c]);
+        }
+        return count;
+    }
+
+    /**
+     * Replace parent.children[index] by its only child if it holds no values,
+     * joining the two edge labels. The joined label starts with the same
+     * character, so the parent's children stay sorted.
+     */
+    private static void mergeWithOnlyChild(Node parent, int index) {
+        Node node = parent.children[index];
+        if (node.valueCount == 0 && node.childCount == 1) {
+            Node child = node.children[0];
+            child.label = node.label + child.label;
+            parent.children[index] = child;
+        }
+    }
+
+    /**
+     * Pre-order walk: a node's own values sort before any longer key below it
+     */
+    @SuppressWarnings("unchecked")
+    private void collect(Node node, MyArrayList<V> result, int limit) {
+        for (int v = 0; v < node.valueCount && result.size() < limit; v++) {
+            result.add((V) node.values[v]);
+        }
+        for (int c = 0; c < node.childCount && result.size() < limit; c++) {
+            collect(node.children[c], result, limit);
+        }
+    }
+
+    /**
+     * Length of the common prefix of label and key[offset..]
+     */
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
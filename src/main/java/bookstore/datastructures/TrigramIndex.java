@@ -0,0 +1,289 @@
+package bookstore.datastructures;
+
+import bookstore.algorithms.AlgorithmUtils;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Inverted index from character trigrams to the rows containing them, used for
+ * case-insensitive substring search.
+ * Each trigram maps to a posting list of row positions kept as a sorted int array.
+ * Trigrams are packed into a long and looked up in an open-addressing table of
+ * primitive keys, so neither indexing nor querying boxes a key.
+ * A query intersects the posting lists of its trigrams and then verifies the
+ * surviving candidates, so only rows sharing every trigram with the query are read.
+ * @param <T> Type of rows being indexed
+ */
+public class TrigramIndex<T> {
+    private static final int GRAM = 3;
+    private static final int INITIAL_TABLE_SIZE = 64;   // Power of two
+
+    private final Function<T, String> keyExtractor;
+    private final MyArrayList<T> rows;                     // Row position is the posting id
+    private final MyArrayList<PostingList> postings;   // Every posting list, in creation order
+    private long[] tableKeys;                          // Trigram in each slot
+    private int[] tableLists;                          // Posting list index + 1 per slot, 0 if empty
+
+    /**
+     * Posting list of row positions in ascending order
+     */
+    private static class PostingList {
+        private int[] ids;
+        private int size;
+
+        public PostingList() {
+            this.ids = new int[4];
+            this.size = 0;
+        }
+
+        /**
+         * Append a row id; ids arrive in ascending order so the list stays sorted
+         */
+        private void append(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;  // Trigram occurs more than once in the same row
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private void trimToSize() {
+            if (ids.length != size) {
+                ids = Arrays.copyOf(ids, size);
+            }
+        }
+    }
+
+    /**
+     * Constructor for an empty index
+     * @param keyExtractor Function returning the text to index for a row
+     */
+    public TrigramIndex(Function<T, String> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+        this.rows = new MyArrayList<>();
+        this.postings = new MyArrayList<>();
+        this.tableKeys = new long[INITIAL_TABLE_SIZE];
+        this.tableLists = new int[INITIAL_TABLE_SIZE];
+    }
+
+    /**
+     * Add a row to the index
+     * Time Complexity: O(k) where k is the length of the row's text
+     * @param row Row to add
+     */
+    public void add(T row) {
+        int id = rows.size();
+        rows.add(row);
+
+        String text = keyExtractor.apply(row);
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            long gram = trigram(text, i);
+            int slot = findSlot(gram);
+            if (tableLists[slot] == 0) {
+                postings.add(new PostingList());
+                tableKeys[slot] = gram;
+                tableLists[slot] = postings.size();
+                if (2 * postings.size() > tableKeys.length) {
+                    growTable();
+                    slot = findSlot(gram);
+                }
+            }
+            postings.get(tableLists[slot] - 1).append(id);
+        }
+    }
+
+    /**
+     * Find all rows whose text contains the query, ignoring case
+     * Queries shorter than three characters cannot use the index and fall back
+     * to checking every row.
+     * @param query Text to search for
+     * @return New list containing all matching rows in insertion order
+     */
+    public MyArrayList<T> search(String query) {
+        MyArrayList<T> result = new MyArrayList<>();
+
+        if (query.length() < GRAM) {
+            for (int i = 0; i < rows.size(); i++) {
+                if (containsIgnoreCase(keyExtractor.apply(rows.get(i)), query)) {
+                    result.add(rows.get(i));
+                }
+            }
+            return result;
+        }
+
+        int[] candidates = candidates(query);
+        for (int id : candidates) {
+            // Sharing every trigram does not guarantee the trigrams are adjacent
+            T row = rows.get(id);
+            if (containsIgnoreCase(keyExtractor.apply(row), query)) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of rows that survive posting list intersection for a query,
+     * before verification. Useful to gauge index selectivity.
+     * @param query Text to search for
+     * @return Number of candidate rows
+     */
+    public int candidateCount(String query) {
+        return query.length() < GRAM ? rows.size() : candidates(query).length;
+    }
+
+    /**
+     * Trim every posting list to its exact size, e.g. after a bulk load
+     */
+    public void trimToSize() {
+        for (int i = 0; i < postings.size(); i++) {
+            postings.get(i).trimToSize();
+        }
+    }
+
+    /**
+     * Get number of indexed rows
+     * @return Number of rows
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Get number of distinct trigrams in the index
+     * @return Number of posting lists
+     */
+    public int trigramCount() {
+        return postings.size();
+    }
+
+    /**
+     * Intersect the posting lists of every distinct trigram in the query
+     */
+    private int[] candidates(String query) {
+        // Distinct trigrams of the query
+        long[] grams = new long[query.length() - GRAM + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = trigram(query, i);
+        }
+        Arrays.sort(grams);
+
+        PostingList[] lists = new PostingList[grams.length];
+        int listCount = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i > 0 && grams[i] == grams[i - 1]) {
+                continue;
+            }
+            int slot = findSlot(grams[i]);
+            if (tableLists[slot] == 0) {
+                return new int[0];  // A trigram no row contains
+            }
+            lists[listCount++] = postings.get(tableLists[slot] - 1);
+        }
+
+        // Start from the shortest list so the candidate set only shrinks
+        Arrays.sort(lists, 0, listCount, (a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int count = result.length;
+
+        for (int l = 1; l < listCount && count > 0; l++) {
+            count = intersect(result, count, lists[l]);
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Keep the candidates that also appear in the posting list.
+     * Galloping search skips runs of the longer list that cannot match.
+     * @return Number of candidates kept (compacted to the front of the array)
+     */
+    private static int intersect(int[] candidates, int count, PostingList list) {
+        int kept = 0;
+        int position = 0;
+
+        for (int c = 0; c < count && position < list.size; c++) {
+            int target = candidates[c];
+
+            // Gallop: double the step until we pass the target, then binary search
+            int step = 1;
+            int low = position;
+            int high = position;
+            while (high < list.size && list.ids[high] < target) {
+                low = high + 1;
+                high = position + step;
+                step <<= 1;
+            }
+            high = Math.min(high, list.size - 1);
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (list.ids[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            position = low;
+            if (position < list.size && list.ids[position] == target) {
+                candidates[kept++] = target;
+                position++;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Linear probe for the slot holding a trigram, or the empty slot where it belongs
+     */
+    private int findSlot(long gram) {
+        int mask = tableKeys.length - 1;
+        long hash = gram * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (tableLists[slot] != 0 && tableKeys[slot] != gram) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Double the trigram table, keeping the load factor at or below one half
+     */
+    private void growTable() {
+        long[] oldKeys = tableKeys;
+        int[] oldLists = tableLists;
+        tableKeys = new long[oldKeys.length * 2];
+        tableLists = new int[oldLists.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldLists[i] != 0) {
+                int slot = findSlot(oldKeys[i]);
+                tableKeys[slot] = oldKeys[i];
+                tableLists[slot] = oldLists[i];
+            }
+        }
+    }
+
+    /**
+     * Pack three case-folded characters into one key
+     */
+    private static long trigram(String text, int offset) {
+        return ((long) AlgorithmUtils.foldCase(text.charAt(offset)) << 32)
+             | ((long) AlgorithmUtils.foldCase(text.charAt(offset + 1)) << 16)
+             | AlgorithmUtils.foldCase(text.charAt(offset + 2));
+    }
+
+    /**
+     * Case-insensitive substring test without allocating lowercase copies
+     */
+    private static boolean containsIgnoreCase(String text, String query) {
+        int last = text.length() - query.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
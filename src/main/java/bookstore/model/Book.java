@@ -1,16 +1,30 @@
 package bookstore.model;
 
+import bookstore.algorithms.AlgorithmUtils;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Comparator;
+import java.util.function.Function;
 
 /**
  * Represents a book in the bookstore inventory
  */
 public class Book implements Comparable<Book> {
+    private static final VarHandle QUANTITY_IN_STOCK;
+    
+    static {
+        try {
+            QUANTITY_IN_STOCK = MethodHandles.lookup().findVarHandle(Book.class, "quantityInStock", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
     private String title;
     private String author;
     private String isbn;
     private double price;
-    private int quantityInStock;
+    private volatile int quantityInStock;   // Updated atomically by order processing
     
     /**
      * Comparator for sorting books by title
@@ -38,6 +52,24 @@ public class Book implements Comparable<Book> {
     public static final Comparator<Book> BY_AUTHOR = Comparator.comparing(
         Book::getAuthor, String.CASE_INSENSITIVE_ORDER);
     
+    /**
+     * Precomputed sort key for titles: comparing keys with String.compareTo gives
+     * the BY_TITLE order. A category character puts digit-leading titles last,
+     * followed by the case-folded title.
+     */
+    public static final Function<Book, String> TITLE_SORT_KEY = book -> {
+        String title = book.getTitle();
+        boolean startsWithDigit = !title.isEmpty() && Character.isDigit(title.charAt(0));
+        return (startsWithDigit ? "1" : "0") + new String(AlgorithmUtils.foldCase(title));
+    };
+    
+    /**
+     * Precomputed sort key for authors: comparing keys with String.compareTo gives
+     * the BY_AUTHOR order
+     */
+    public static final Function<Book, String> AUTHOR_SORT_KEY =
+        book -> new String(AlgorithmUtils.foldCase(book.getAuthor()));
+    
     /**
      * Comparator for sorting books by price (low to high)
      */
@@ -97,6 +129,16 @@ public class Book implements Comparable<Book> {
         return price;
     }
     
+    /**
+     * Change the price. The price orders {@link bookstore.service.PriceIndex}
+     * and the app's price view, so a book held by them must be repriced
+     * through the app, which takes it out of both first
+     * @param price New price
+     */
+    public void setPrice(double price) {
+        this.price = price;
+    }
+    
     public int getQuantityInStock() {
         return quantityInStock;
     }
@@ -105,6 +147,37 @@ public class Book implements Comparable<Book> {
         this.quantityInStock = quantityInStock;
     }
     
+    /**
+     * Atomically take copies out of stock if enough are available
+     * @param amount Number of copies to remove
+     * @return true if the stock was decremented, false if there were not enough copies
+     */
+    public boolean tryRemoveStock(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative: " + amount);
+        }
+        
+        int current;
+        do {
+            current = quantityInStock;
+            if (current < amount) {
+                return false;
+            }
+        } while (!QUANTITY_IN_STOCK.compareAndSet(this, current, current - amount));
+        return true;
+    }
+    
+    /**
+     * Atomically put copies back into stock
+     * @param amount Number of copies to add
+     */
+    public void addStock(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative: " + amount);
+        }
+        QUANTITY_IN_STOCK.getAndAdd(this, amount);
+    }
+    
     /**
      * Implementation of Comparable interface
      * Default comparison by title
@@ -126,4 +199,4 @@ public class Book implements Comparable<Book> {
                ", quantityInStock=" + quantityInStock +
                '}';
     }
-} 
\ No newline at end of file
+}
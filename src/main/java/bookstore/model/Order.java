@@ -1,20 +1,22 @@
 package bookstore.model;
 
+import bookstore.datastructures.IntArrayList;
 import bookstore.datastructures.MyArrayList;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a customer order in the bookstore system
  */
 public class Order {
-    private static int nextOrderId = 1;
+    private static final AtomicInteger NEXT_ORDER_ID = new AtomicInteger(1);  // Orders may be created on any thread
     
     private final int orderId;
     private final String customerName;
     private final String shippingAddress;
     private final MyArrayList<Book> books;
-    private final MyArrayList<Integer> quantities;
-    private String status;
+    private final IntArrayList quantities;
+    private volatile String status;
     
     /**
      * Comparator for sorting orders by customer name
@@ -33,11 +35,11 @@ public class Order {
      * @param shippingAddress Shipping address
      */
     public Order(String customerName, String shippingAddress) {
-        this.orderId = nextOrderId++;
+        this.orderId = NEXT_ORDER_ID.getAndIncrement();
         this.customerName = customerName;
         this.shippingAddress = shippingAddress;
         this.books = new MyArrayList<>();
-        this.quantities = new MyArrayList<>();
+        this.quantities = new IntArrayList();
         this.status = "Pending";
     }
     
@@ -80,7 +82,7 @@ public class Order {
         return books;
     }
     
-    public MyArrayList<Integer> getQuantities() {
+    public IntArrayList getQuantities() {
         return quantities;
     }
     
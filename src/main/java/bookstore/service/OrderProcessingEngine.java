@@ -0,0 +1,290 @@
+package bookstore.service;
+
+import bookstore.datastructures.IntArrayList;
+import bookstore.datastructures.MpscQueue;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import bookstore.model.Order;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless order processing engine.
+ * The thread calling {@link #processAll()} acts as the single consumer of the
+ * pending order queue: it drains orders in batches and hands each batch to a
+ * fixed pool of worker threads. A worker commits the order's stock
+ * reservations if it holds them, otherwise takes every line out of stock
+ * atomically (all lines or none), then marks the order processed or rejected
+ * and appends it to the processed orders list.
+ */
+public class OrderProcessingEngine {
+    public static final String STATUS_PROCESSED = "Processed";
+    public static final String STATUS_REJECTED = "Rejected - Insufficient Stock";
+
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final MpscQueue<Order> pendingOrders;
+    private final MyArrayList<Order> processedOrders;   // Guarded by its own monitor
+    private final StockReservations reservations;       // May be null
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final int batchSize;
+
+    // Counters are updated by many workers, so use striped adders
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * Result of one {@link #processAll()} run
+     */
+    public static class Report {
+        private final long ordersProcessed;
+        private final long ordersRejected;
+        private final long elapsedNanos;
+        private final long totalLatencyNanos;
+        private final long maxLatencyNanos;
+
+        private Report(long ordersProcessed, long ordersRejected, long elapsedNanos,
+                       long totalLatencyNanos, long maxLatencyNanos) {
+            this.ordersProcessed = ordersProcessed;
+            this.ordersRejected = ordersRejected;
+            this.elapsedNanos = elapsedNanos;
+            this.totalLatencyNanos = totalLatencyNanos;
+            this.maxLatencyNanos = maxLatencyNanos;
+        }
+
+        public long getOrdersProcessed() {
+            return ordersProcessed;
+        }
+
+        public long getOrdersRejected() {
+            return ordersRejected;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Orders handled (processed or rejected) per second of wall-clock time
+         */
+        public double getThroughputPerSecond() {
+            long handled = ordersProcessed + ordersRejected;
+            return elapsedNanos == 0 ? 0 : handled * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Average time from an order leaving the queue to being completed
+         */
+        public double getAverageLatencyNanos() {
+            long handled = ordersProcessed + ordersRejected;
+            return handled == 0 ? 0 : (double) totalLatencyNanos / handled;
+        }
+
+        /**
+         * Longest time from an order leaving the queue to being completed
+         */
+        public long getMaxLatencyNanos() {
+            return maxLatencyNanos;
+        }
+    }
+
+    /**
+     * Constructor with the default batch size
+     * @param pendingOrders Queue of orders waiting to be processed
+     * @param processedOrders List that completed orders are appended to
+     * @param workerCount Number of worker threads
+     */
+    public OrderProcessingEngine(MpscQueue<Order> pendingOrders, MyArrayList<Order> processedOrders, int workerCount) {
+        this(pendingOrders, processedOrders, null, workerCount, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor for orders that take their stock at processing time
+     * @param pendingOrders Queue of orders waiting to be processed
+     * @param processedOrders List that completed orders are appended to
+     * @param workerCount Number of worker threads
+     * @param batchSize Maximum number of orders handed to a worker at once
+     */
+    public OrderProcessingEngine(MpscQueue<Order> pendingOrders, MyArrayList<Order> processedOrders,
+                                 int workerCount, int batchSize) {
+        this(pendingOrders, processedOrders, null, workerCount, batchSize);
+    }
+
+    /**
+     * Constructor for orders whose stock was reserved when they were placed
+     * @param pendingOrders Queue of orders waiting to be processed
+     * @param processedOrders List that completed orders are appended to
+     * @param reservations Reservations to commit for orders that hold stock
+     * @param workerCount Number of worker threads
+     */
+    public OrderProcessingEngine(MpscQueue<Order> pendingOrders, MyArrayList<Order> processedOrders,
+                                 StockReservations reservations, int workerCount) {
+        this(pendingOrders, processedOrders, reservations, workerCount, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     * @param pendingOrders Queue of orders waiting to be processed
+     * @param processedOrders List that completed orders are appended to
+     * @param reservations Reservations to commit for orders that hold stock, or null
+     * @param workerCount Number of worker threads
+     * @param batchSize Maximum number of orders handed to a worker at once
+     */
+    public OrderProcessingEngine(MpscQueue<Order> pendingOrders, MyArrayList<Order> processedOrders,
+                                 StockReservations reservations, int workerCount, int batchSize) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.pendingOrders = pendingOrders;
+        this.processedOrders = processedOrders;
+        this.reservations = reservations;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "order-worker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);   // Never keep the application alive
+            return thread;
+        });
+    }
+
+    /**
+     * Process orders until the pending queue is empty.
+     * Must be called from the queue's consumer thread; returns once every
+     * drained order has been completed.
+     * @return Counts and timings for this run
+     */
+    public Report processAll() {
+        long processedBefore = processedCount.sum();
+        long rejectedBefore = rejectedCount.sum();
+        long latencyBefore = totalLatencyNanos.sum();
+        maxLatencyNanos.set(0);
+        long start = System.nanoTime();
+
+        MyArrayList<Future<?>> inFlight = new MyArrayList<>();
+        while (true) {
+            MyArrayList<Order> batch = new MyArrayList<>(batchSize);
+            if (pendingOrders.drainTo(batch, batchSize) == 0) {
+                break;
+            }
+            long drainedAt = System.nanoTime();
+            inFlight.add(workers.submit(() -> processBatch(batch, drainedAt)));
+        }
+
+        for (int i = 0; i < inFlight.size(); i++) {
+            try {
+                inFlight.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for order workers", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Order worker failed", e.getCause());
+            }
+        }
+
+        return new Report(processedCount.sum() - processedBefore,
+                          rejectedCount.sum() - rejectedBefore,
+                          System.nanoTime() - start,
+                          totalLatencyNanos.sum() - latencyBefore,
+                          maxLatencyNanos.get());
+    }
+
+    /**
+     * Get number of orders processed since the engine was created
+     * @return Number of processed orders
+     */
+    public long getTotalProcessed() {
+        return processedCount.sum();
+    }
+
+    /**
+     * Get number of orders rejected since the engine was created
+     * @return Number of rejected orders
+     */
+    public long getTotalRejected() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Get number of worker threads
+     * @return Worker count
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Stop the worker threads once submitted work has finished
+     */
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * Complete every order of a batch, then publish them in one step
+     */
+    private void processBatch(MyArrayList<Order> batch, long drainedAt) {
+        for (int i = 0; i < batch.size(); i++) {
+            Order order = batch.get(i);
+            if (fulfil(order)) {
+                order.setStatus(STATUS_PROCESSED);
+                processedCount.increment();
+            } else {
+                order.setStatus(STATUS_REJECTED);
+                rejectedCount.increment();
+            }
+
+            long latency = System.nanoTime() - drainedAt;
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        }
+
+        synchronized (processedOrders) {
+            for (int i = 0; i < batch.size(); i++) {
+                processedOrders.add(batch.get(i));
+            }
+        }
+    }
+
+    /**
+     * Commit the order's reservations, or take every line out of stock, or none of them
+     * @return true if all lines were in stock
+     */
+    private boolean fulfil(Order order) {
+        if (reservations != null) {
+            if (reservations.isReserved(order)) {
+                // Stock was already taken when the order was placed
+                reservations.commitAll(order);
+                return true;
+            }
+            // Return any partial holds so the lines below are not taken twice
+            reservations.releaseAll(order);
+        }
+
+        MyArrayList<Book> books = order.getBooks();
+        IntArrayList quantities = order.getQuantities();
+
+        for (int i = 0; i < books.size(); i++) {
+            if (!books.get(i).tryRemoveStock(quantities.get(i))) {
+                // Roll back the lines already taken
+                for (int j = 0; j < i; j++) {
+                    books.get(j).addStock(quantities.get(j));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,237 @@
+package bookstore.service;
+
+import bookstore.algorithms.AlgorithmUtils;
+import bookstore.algorithms.SortingAlgorithms;
+import bookstore.datastructures.IntArrayList;
+import bookstore.datastructures.LongArrayList;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+
+/**
+ * Sorted index of catalog rows by price, so price filters cost
+ * O(log n + k) instead of a scan over every book.
+ * Entries are kept in two parallel primitive arrays: the exact price as
+ * {@link AlgorithmUtils#sortableBits} and the book's row (position in the
+ * catalog list). Entries are ordered by price and then by row, so a price
+ * range is one contiguous run found with two binary searches, and every
+ * price compares exactly as it would in a scan, sub-cent digits included.
+ * Books must be added and repriced through the index to keep it in step
+ * with the catalog. Not thread-safe.
+ */
+public class PriceIndex {
+    private final MyArrayList<Book> catalog;
+    private final LongArrayList keys;   // Sortable price bits, ascending
+    private final IntArrayList rows;    // Catalog row of each key; ascending among equal keys
+    
+    /**
+     * Build an index over every book in a catalog
+     * Time Complexity: O(n) - one radix sort of the rows by price
+     * Space Complexity: O(n)
+     * @param catalog Catalog whose rows are indexed; kept by reference
+     * @throws IllegalArgumentException if a price is negative, infinite or NaN
+     */
+    public PriceIndex(MyArrayList<Book> catalog) {
+        this.catalog = catalog;
+        int n = catalog.size();
+        long[] rowKeys = new long[n];
+        for (int row = 0; row < n; row++) {
+            rowKeys[row] = key(catalog.get(row).getPrice());
+        }
+        // Stable, so equal prices stay in row order
+        int[] order = SortingAlgorithms.radixSortedOrder(rowKeys);
+        
+        this.keys = new LongArrayList(n);
+        this.rows = new IntArrayList(n);
+        for (int row : order) {
+            keys.add(rowKeys[row]);
+            rows.add(row);
+        }
+    }
+    
+    /**
+     * Index a book that has been added to the catalog, usually at the end
+     * Time Complexity: O(n) worst case to shift later entries
+     * @param row Position of the book in the catalog
+     * @throws IllegalArgumentException if the price is negative, infinite or NaN
+     */
+    public void add(int row) {
+        insert(key(catalog.get(row).getPrice()), row);
+    }
+    
+    /**
+     * Change the price of a book and move its entry to match. The same Book
+     * object is updated, so every other structure holding it sees the new
+     * price; structures sorted by price must take the book out first.
+     * Time Complexity: O(n) worst case to shift entries
+     * @param row Position of the book in the catalog
+     * @param newPrice New price
+     * @throws IllegalArgumentException if the new price is negative, infinite or NaN
+     * @throws IllegalStateException if the row has not been indexed
+     */
+    public void reprice(int row, double newPrice) {
+        Book book = catalog.get(row);
+        long newKey = key(newPrice);   // Validate before changing anything
+        long oldKey = key(book.getPrice());
+        int position = lowerBound(oldKey, row);
+        if (position == keys.size() || keys.get(position) != oldKey || rows.get(position) != row) {
+            throw new IllegalStateException("Row " + row + " is not in the price index");
+        }
+        
+        keys.removeAt(position);
+        rows.removeAt(position);
+        book.setPrice(newPrice);
+        insert(newKey, row);
+    }
+    
+    /**
+     * Get number of indexed books
+     * @return Number of entries
+     */
+    public int size() {
+        return keys.size();
+    }
+    
+    /**
+     * Count books in an inclusive price range
+     * Time Complexity: O(log n)
+     * Space Complexity: O(1)
+     * @param minPrice Lowest price to include
+     * @param maxPrice Highest price to include
+     * @return Number of books with minPrice <= price <= maxPrice
+     */
+    public int count(double minPrice, double maxPrice) {
+        return Math.max(end(maxPrice) - start(minPrice), 0);
+    }
+    
+    /**
+     * Get books in an inclusive price range
+     * Time Complexity: O(log n + k) where k is the number of matches
+     * Space Complexity: O(k)
+     * @param minPrice Lowest price to include
+     * @param maxPrice Highest price to include
+     * @return Matching books from cheapest to most expensive
+     */
+    public MyArrayList<Book> range(double minPrice, double maxPrice) {
+        return page(minPrice, maxPrice, 0, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Get books priced within a tolerance of a target. Matches exactly the
+     * books {@link bookstore.algorithms.SearchingAlgorithms#findBooksByPriceRange}
+     * finds, i.e. those with |price - targetPrice| <= tolerance as computed in
+     * double arithmetic, which range(target - tolerance, target + tolerance)
+     * can miss by one rounding step at either end.
+     * Time Complexity: O(log n + k) where k is the number of matches
+     * Space Complexity: O(k)
+     * @param targetPrice Price to search around
+     * @param tolerance Largest allowed difference from the target
+     * @return Matching books from cheapest to most expensive
+     */
+    public MyArrayList<Book> near(double targetPrice, double tolerance) {
+        // Widen by a few ulps to cover rounding in the bounds, then trim with
+        // the scan's own test; fl(price - target) grows with price, so the
+        // matches are one contiguous run
+        double slack = 4 * Math.ulp(Math.abs(targetPrice) + Math.abs(tolerance));
+        int from = start(targetPrice - tolerance - slack);
+        int to = end(targetPrice + tolerance + slack);
+        while (from < to && !isNear(from, targetPrice, tolerance)) {
+            from++;
+        }
+        while (to > from && !isNear(to - 1, targetPrice, tolerance)) {
+            to--;
+        }
+        return books(from, to);
+    }
+    
+    /**
+     * Get one page of the books in an inclusive price range
+     * Time Complexity: O(log n + limit)
+     * Space Complexity: O(limit)
+     * @param minPrice Lowest price to include
+     * @param maxPrice Highest price to include
+     * @param offset Number of matches to skip
+     * @param limit Maximum number of books to return
+     * @return Up to limit matching books from cheapest to most expensive
+     */
+    public MyArrayList<Book> page(double minPrice, double maxPrice, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative: " + offset + ", " + limit);
+        }
+        int start = start(minPrice);
+        int end = end(maxPrice);
+        int from = (int) Math.min((long) start + offset, end);
+        int to = (int) Math.min((long) from + limit, end);
+        return books(from, to);
+    }
+    
+    /**
+     * First entry priced at or above minPrice
+     */
+    private int start(double minPrice) {
+        if (Double.isNaN(minPrice)) {
+            return keys.size();
+        }
+        return lowerBound(bound(minPrice), 0);
+    }
+    
+    /**
+     * First entry priced above maxPrice
+     */
+    private int end(double maxPrice) {
+        if (Double.isNaN(maxPrice)) {
+            return 0;
+        }
+        // The largest non-NaN key is +Infinity's, so adding one cannot overflow
+        return lowerBound(bound(maxPrice) + 1, 0);
+    }
+    
+    /**
+     * First position whose (key, row) is not less than the given pair
+     */
+    private int lowerBound(long key, int row) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long midKey = keys.get(mid);
+            if (midKey < key || (midKey == key && rows.get(mid) < row)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private boolean isNear(int position, double targetPrice, double tolerance) {
+        return Math.abs(catalog.get(rows.get(position)).getPrice() - targetPrice) <= tolerance;
+    }
+    
+    private MyArrayList<Book> books(int from, int to) {
+        MyArrayList<Book> result = new MyArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(catalog.get(rows.get(i)));
+        }
+        return result;
+    }
+    
+    private void insert(long key, int row) {
+        int position = lowerBound(key, row);
+        keys.add(position, key);
+        rows.add(position, row);
+    }
+    
+    /**
+     * Sort key of a query bound; -0.0 is folded into 0.0 as in a scan
+     */
+    private static long bound(double price) {
+        return AlgorithmUtils.sortableBits(price + 0.0);
+    }
+    
+    private static long key(double price) {
+        if (!(price >= 0 && price < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Price must be a finite non-negative number: " + price);
+        }
+        return bound(price);
+    }
+}
@@ -0,0 +1,270 @@
+package bookstore.service;
+
+import bookstore.datastructures.IntArrayList;
+import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyHashMap;
+import bookstore.model.Book;
+import bookstore.model.Order;
+
+/**
+ * Holds stock for orders between placement and processing.
+ * Reserving takes copies out of a book's stock with a CAS on its counter, so
+ * two customers can never both get the last copy. The ledger of outstanding
+ * holds is split into lock stripes chosen by ISBN: threads working on
+ * different books almost never touch the same lock, and no operation takes
+ * a global lock.
+ * A hold is identified by (order, ISBN); reserving the same book twice for
+ * one order adds to the existing hold.
+ */
+public class StockReservations {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    /**
+     * One lock stripe of the ledger; every field is guarded by the stripe itself
+     */
+    private static class Stripe {
+        private final MyHashMap<HoldKey, int[]> holds = new MyHashMap<>();
+        private final MyHashMap<String, int[]> reservedByIsbn = new MyHashMap<>();
+    }
+
+    /**
+     * Ledger key for the copies of one book held for one order
+     */
+    private static class HoldKey {
+        private final int orderId;
+        private final String isbn;
+
+        public HoldKey(int orderId, String isbn) {
+            this.orderId = orderId;
+            this.isbn = isbn;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof HoldKey)) {
+                return false;
+            }
+            HoldKey key = (HoldKey) other;
+            return orderId == key.orderId && isbn.equals(key.isbn);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * isbn.hashCode() + orderId;
+        }
+    }
+
+    /**
+     * Constructor with the default number of stripes
+     */
+    public StockReservations() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructor
+     * @param stripeCount Number of lock stripes (rounded up to a power of two)
+     */
+    public StockReservations(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+        int size = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Reserve copies of a book for an order line
+     * @param order Order the copies are held for
+     * @param book Book to reserve
+     * @param quantity Number of copies
+     * @return true if the copies were taken out of stock and are now held
+     */
+    public boolean reserve(Order order, Book book, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+        }
+        if (!book.tryRemoveStock(quantity)) {
+            return false;
+        }
+
+        HoldKey key = new HoldKey(order.getOrderId(), book.getIsbn());
+        Stripe stripe = stripeFor(book.getIsbn());
+        synchronized (stripe) {
+            int[] held = stripe.holds.get(key);
+            if (held == null) {
+                stripe.holds.put(key, new int[] {quantity});
+            } else {
+                held[0] += quantity;
+            }
+            counter(stripe, book.getIsbn())[0] += quantity;
+        }
+        return true;
+    }
+
+    /**
+     * Make the hold for an order line permanent; the copies stay out of stock
+     * @param order Order the copies are held for
+     * @param book Book that was reserved
+     * @return Number of copies committed, 0 if nothing was held
+     */
+    public int commit(Order order, Book book) {
+        return removeHold(order, book);
+    }
+
+    /**
+     * Cancel the hold for an order line and put the copies back into stock
+     * @param order Order the copies are held for
+     * @param book Book that was reserved
+     * @return Number of copies released, 0 if nothing was held
+     */
+    public int release(Order order, Book book) {
+        int quantity = removeHold(order, book);
+        if (quantity > 0) {
+            book.addStock(quantity);
+        }
+        return quantity;
+    }
+
+    /**
+     * Reserve every line of an order, or none of them
+     * @param order Order whose lines should be reserved
+     * @return true if all lines were reserved
+     */
+    public boolean reserveAll(Order order) {
+        MyArrayList<Book> books = order.getBooks();
+        IntArrayList quantities = order.getQuantities();
+
+        for (int i = 0; i < books.size(); i++) {
+            if (!reserve(order, books.get(i), quantities.get(i))) {
+                releaseAll(order);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if every line of an order is currently held
+     * @param order Order to check
+     * @return true if the order has a hold covering each of its lines
+     */
+    public boolean isReserved(Order order) {
+        MyArrayList<Book> books = order.getBooks();
+        IntArrayList quantities = order.getQuantities();
+
+        for (int i = 0; i < books.size(); i++) {
+            // Lines for the same book share one hold, so compare the totals
+            String isbn = books.get(i).getIsbn();
+            int needed = 0;
+            for (int j = 0; j < books.size(); j++) {
+                if (books.get(j).getIsbn().equals(isbn)) {
+                    needed += quantities.get(j);
+                }
+            }
+            if (heldFor(order, isbn) < needed) {
+                return false;
+            }
+        }
+        return !books.isEmpty();
+    }
+
+    /**
+     * Commit every hold of an order
+     * @param order Order whose holds should be committed
+     * @return Total number of copies committed
+     */
+    public int commitAll(Order order) {
+        int total = 0;
+        MyArrayList<Book> books = order.getBooks();
+        for (int i = 0; i < books.size(); i++) {
+            total += commit(order, books.get(i));
+        }
+        return total;
+    }
+
+    /**
+     * Release every hold of an order
+     * @param order Order whose holds should be released
+     * @return Total number of copies put back into stock
+     */
+    public int releaseAll(Order order) {
+        int total = 0;
+        MyArrayList<Book> books = order.getBooks();
+        for (int i = 0; i < books.size(); i++) {
+            total += release(order, books.get(i));
+        }
+        return total;
+    }
+
+    /**
+     * Get number of copies of a book currently held across all orders
+     * @param isbn ISBN of the book
+     * @return Copies reserved but not yet committed or released
+     */
+    public int getReserved(String isbn) {
+        Stripe stripe = stripeFor(isbn);
+        synchronized (stripe) {
+            int[] reserved = stripe.reservedByIsbn.get(isbn);
+            return reserved == null ? 0 : reserved[0];
+        }
+    }
+
+    /**
+     * Get number of copies of a book held for one order
+     */
+    private int heldFor(Order order, String isbn) {
+        Stripe stripe = stripeFor(isbn);
+        synchronized (stripe) {
+            int[] held = stripe.holds.get(new HoldKey(order.getOrderId(), isbn));
+            return held == null ? 0 : held[0];
+        }
+    }
+
+    /**
+     * Remove a hold from the ledger
+     * @return Number of copies that were held
+     */
+    private int removeHold(Order order, Book book) {
+        Stripe stripe = stripeFor(book.getIsbn());
+        synchronized (stripe) {
+            int[] held = stripe.holds.remove(new HoldKey(order.getOrderId(), book.getIsbn()));
+            if (held == null) {
+                return 0;
+            }
+            int[] reserved = counter(stripe, book.getIsbn());
+            reserved[0] -= held[0];
+            if (reserved[0] == 0) {
+                stripe.reservedByIsbn.remove(book.getIsbn());
+            }
+            return held[0];
+        }
+    }
+
+    /**
+     * Get the per-ISBN reserved counter, creating it if needed; caller holds the stripe lock
+     */
+    private static int[] counter(Stripe stripe, String isbn) {
+        int[] reserved = stripe.reservedByIsbn.get(isbn);
+        if (reserved == null) {
+            reserved = new int[1];
+            stripe.reservedByIsbn.put(isbn, reserved);
+        }
+        return reserved;
+    }
+
+    /**
+     * Choose the stripe for an ISBN
+     */
+    private Stripe stripeFor(String isbn) {
+        int h = isbn.hashCode() * 0x9E3779B9;
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+}
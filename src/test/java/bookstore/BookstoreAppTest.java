@@ -0,0 +1,49 @@
+package bookstore;
+
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BookstoreAppTest {
+    
+    private static final String GATSBY_ISBN = "9780743273565";
+    
+    @Test
+    public void testRepriceKeepsOneBookPerIsbn() {
+        BookstoreApp app = new BookstoreApp();
+        Book book = app.findBookByIsbn(GATSBY_ISBN);
+        
+        app.repriceBook(book, 13.75);
+        Book found = app.findBookByIsbn(GATSBY_ISBN);
+        assertSame("ISBN lookup should return the repriced book", book, found);
+        assertEquals("ISBN lookup should see the new price", 13.75, found.getPrice(), 0.0);
+        assertEquals("Repricing should not change the stock", 50, found.getQuantityInStock());
+        
+        assertTrue("Stock should be taken from the looked-up book", found.tryRemoveStock(5));
+        MyArrayList<Book> byPrice = app.findBooksNearPrice(13.75, 0.0);
+        assertEquals("Price search should find the book at its new price", 1, byPrice.size());
+        assertSame("Price search should return the same book", book, byPrice.get(0));
+        assertEquals("Price search should see the stock change", 45, byPrice.get(0).getQuantityInStock());
+        
+        MyArrayList<Book> oldPrice = app.findBooksNearPrice(12.99, 0.0);
+        for (int i = 0; i < oldPrice.size(); i++) {
+            assertNotSame("Old price should no longer match", book, oldPrice.get(i));
+        }
+    }
+    
+    @Test
+    public void testRejectedRepriceLeavesBookIndexed() {
+        BookstoreApp app = new BookstoreApp();
+        Book book = app.findBookByIsbn(GATSBY_ISBN);
+        
+        try {
+            app.repriceBook(book, -1.0);
+            fail("Negative price should be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        assertEquals("Price should be unchanged", 12.99, book.getPrice(), 0.0);
+        assertEquals("Book should still be found at its price", 2, app.findBooksNearPrice(12.99, 0.0).size());
+    }
+}
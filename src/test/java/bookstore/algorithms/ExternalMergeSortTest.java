@@ -0,0 +1,122 @@
+package bookstore.algorithms;
+
+import bookstore.model.Book;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public class ExternalMergeSortTest {
+    
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    
+    @Test
+    public void testSortMatchesInMemorySortAcrossMergePasses() throws IOException {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            lines.add("line-" + random.nextInt(5000));
+        }
+        Path input = write(lines);
+        Path output = folder.getRoot().toPath().resolve("sorted.txt");
+        File tempDirectory = folder.newFolder("runs");
+        
+        // 100 runs with a fan-in of 4 needs several intermediate merge passes
+        ExternalMergeSort<String> sorter =
+            new ExternalMergeSort<>(ExternalMergeSort.LINES, Comparator.naturalOrder(), 100, 4);
+        long count = sorter.sort(input, output, tempDirectory.toPath());
+        
+        Collections.sort(lines);
+        assertEquals("Every record should be counted", 10000, count);
+        assertEquals("Output should match an in-memory sort", lines,
+                     Files.readAllLines(output, StandardCharsets.UTF_8));
+        assertEquals("Run files should be deleted", 0, tempDirectory.list().length);
+    }
+    
+    @Test
+    public void testSortIsStable() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Book book = new Book("Book " + i, "Author", "ISBN" + i, 10.0 + (i * 7) % 5, i);
+            lines.add(ExternalMergeSort.BOOK_CSV.encode(book));
+        }
+        Path input = write(lines);
+        Path output = folder.getRoot().toPath().resolve("sorted.csv");
+        
+        ExternalMergeSort<Book> sorter =
+            new ExternalMergeSort<>(ExternalMergeSort.BOOK_CSV, Comparator.comparingDouble(Book::getPrice), 37, 3);
+        sorter.sort(input, output);
+        
+        List<String> sorted = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals("Every record should be written", 500, sorted.size());
+        Book previous = null;
+        for (String line : sorted) {
+            Book book = ExternalMergeSort.BOOK_CSV.decode(line);
+            if (previous != null) {
+                assertTrue("Prices should be ascending", previous.getPrice() <= book.getPrice());
+                if (previous.getPrice() == book.getPrice()) {
+                    assertTrue("Equal prices should keep input order",
+                               previous.getQuantityInStock() < book.getQuantityInStock());
+                }
+            }
+            previous = book;
+        }
+    }
+    
+    @Test
+    public void testSortSingleChunkAndEmptyInput() throws IOException {
+        ExternalMergeSort<String> sorter = new ExternalMergeSort<>(ExternalMergeSort.LINES, Comparator.naturalOrder());
+        Path output = folder.getRoot().toPath().resolve("sorted.txt");
+        
+        List<String> lines = new ArrayList<>();
+        lines.add("cherry");
+        lines.add("apple");
+        lines.add("banana");
+        assertEquals("Should sort a small file in one chunk", 3, sorter.sort(write(lines), output));
+        assertEquals("apple", Files.readAllLines(output, StandardCharsets.UTF_8).get(0));
+        
+        assertEquals("Empty input should sort zero records", 0, sorter.sort(write(new ArrayList<>()), output));
+        assertEquals("Empty input should give an empty output", 0, Files.size(output));
+    }
+    
+    @Test
+    public void testBookCsvRoundTrip() {
+        Book book = new Book("Hello, \"World\"", "Doe, Jane", "ISBN1", 12.5, 3);
+        String line = ExternalMergeSort.BOOK_CSV.encode(book);
+        assertEquals("\"Hello, \"\"World\"\"\",\"Doe, Jane\",ISBN1,12.5,3", line);
+        
+        Book decoded = ExternalMergeSort.BOOK_CSV.decode(line);
+        assertEquals(book.getTitle(), decoded.getTitle());
+        assertEquals(book.getAuthor(), decoded.getAuthor());
+        assertEquals(book.getIsbn(), decoded.getIsbn());
+        assertEquals(book.getPrice(), decoded.getPrice(), 0.0);
+        assertEquals(book.getQuantityInStock(), decoded.getQuantityInStock());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testBookCsvRejectsWrongFieldCount() {
+        ExternalMergeSort.BOOK_CSV.decode("Title,Author,ISBN1,12.5");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorRejectsSmallFanIn() {
+        new ExternalMergeSort<>(ExternalMergeSort.LINES, Comparator.<String>naturalOrder(), 100, 1);
+    }
+    
+    private Path write(List<String> lines) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file;
+    }
+}
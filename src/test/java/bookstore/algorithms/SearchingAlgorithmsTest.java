@@ -1,8 +1,14 @@
 package bookstore.algorithms;
 
+import bookstore.datastructures.EytzingerIndex;
 import bookstore.datastructures.MyArrayList;
+import bookstore.datastructures.MyConcurrentSkipList;
+import bookstore.datastructures.MyHashMap;
+import bookstore.datastructures.MyTrie;
+import bookstore.datastructures.TrigramIndex;
 import bookstore.model.Book;
 import bookstore.model.Order;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -54,6 +60,61 @@ SearchingAlgorithmsTest {
         assertEquals("Should return -1 for non-existent element", -1, index);
     }
     
+    @Test
+    public void testExponentialSearch() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i * 5); // 0, 5, 10, 15, ... 95
+        }
+        
+        assertEquals("Should find 45 at index 9", 9, SearchingAlgorithms.exponentialSearch(list, 45));
+        assertEquals("Should find first element", 0, SearchingAlgorithms.exponentialSearch(list, 0));
+        assertEquals("Should find last element", 19, SearchingAlgorithms.exponentialSearch(list, 95));
+        assertEquals("Should return -1 for non-existent element", -1, SearchingAlgorithms.exponentialSearch(list, 42));
+        assertEquals("Should return -1 past the end", -1, SearchingAlgorithms.exponentialSearch(list, 100));
+        
+        MyArrayList<Integer> duplicates = new MyArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            duplicates.add(i < 10 ? 1 : i < 90 ? 2 : 3);
+        }
+        assertArrayEquals("Should span every duplicate", new int[] {10, 89},
+                          SearchingAlgorithms.exponentialSearchRange(duplicates, 2, AlgorithmUtils.naturalOrder()));
+        assertArrayEquals("Should report missing element", new int[] {-1, -1},
+                          SearchingAlgorithms.exponentialSearchRange(duplicates, 4, AlgorithmUtils.naturalOrder()));
+    }
+    
+    @Test
+    public void testInterpolationSearchByPrice() {
+        // Heavily skewed: mostly cheap books with a few very expensive ones
+        MyArrayList<Book> books = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            double price = i < 500 ? 5.0 : i < 990 ? 5.0 + (i - 500) / 100.0 : 1_000_000.0 * (i - 989);
+            books.add(new Book("Book " + i, "Author", "ISBN" + i, price, 1));
+        }
+        
+        int index = SearchingAlgorithms.interpolationSearchByPrice(books, 5.0);
+        assertTrue("Should find one of the duplicate prices", index >= 0 && index <= 500);
+        assertArrayEquals("Should span the duplicate prices", new int[] {0, 500},
+                          SearchingAlgorithms.interpolationSearchRangeByPrice(books, 5.0));
+        assertEquals("Should find price in the skewed tail", 995,
+                     SearchingAlgorithms.interpolationSearchByPrice(books, 6_000_000.0));
+        assertEquals("Should find price among small steps", 750,
+                     SearchingAlgorithms.interpolationSearchByPrice(books, books.get(750).getPrice()));
+        assertEquals("Should return -1 between prices", -1,
+                     SearchingAlgorithms.interpolationSearchByPrice(books, 7.005));
+        assertArrayEquals("Should report missing price", new int[] {-1, -1},
+                          SearchingAlgorithms.interpolationSearchRangeByPrice(books, 4.0));
+        
+        MyArrayList<Book> samePrice = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            samePrice.add(new Book("Book " + i, "Author", "ISBN" + i, 9.99, 1));
+        }
+        assertArrayEquals("All equal prices should not divide by zero", new int[] {0, 9},
+                          SearchingAlgorithms.interpolationSearchRangeByPrice(samePrice, 9.99));
+        assertEquals("Empty list should return -1", -1,
+                     SearchingAlgorithms.interpolationSearchByPrice(new MyArrayList<>(), 9.99));
+    }
+    
     @Test
     public void testFindBookByIsbn() {
         MyArrayList<Book> books = new MyArrayList<>();
@@ -68,6 +129,60 @@ SearchingAlgorithmsTest {
         assertEquals("Should return -1 for non-existent ISBN", -1, index);
     }
     
+    @Test
+    public void testFindBookByIsbnIndex() {
+        MyArrayList<Book> books = new MyArrayList<>();
+        books.add(new Book("Book 1", "Author 1", "ISBN1", 10.0, 5));
+        books.add(new Book("Book 2", "Author 2", "ISBN2", 15.0, 10));
+        books.add(new Book("Book 3", "Author 3", "ISBN3", 20.0, 15));
+        
+        MyHashMap<String, Book> index = SearchingAlgorithms.buildIsbnIndex(books);
+        
+        assertSame("Should find book with ISBN2", books.get(1), SearchingAlgorithms.findBookByIsbn(index, "ISBN2"));
+        assertNull("Should return null for non-existent ISBN", SearchingAlgorithms.findBookByIsbn(index, "ISBN4"));
+        
+        // Stock changes are visible through the index because it stores the books themselves
+        books.get(1).setQuantityInStock(0);
+        assertEquals("Indexed book should reflect quantity change", 0,
+                     SearchingAlgorithms.findBookByIsbn(index, "ISBN2").getQuantityInStock());
+    }
+    
+    @Test
+    public void testFindBooksByTitlePrefix() {
+        MyArrayList<Book> books = new MyArrayList<>();
+        books.add(new Book("The Hobbit", "Author 1", "ISBN1", 10.0, 5));
+        books.add(new Book("Dune", "Author 2", "ISBN2", 15.0, 10));
+        books.add(new Book("The Great Gatsby", "Author 3", "ISBN3", 20.0, 15));
+        
+        MyTrie<Book> index = SearchingAlgorithms.buildTitleIndex(books);
+        index.insert("The Road", new Book("The Road", "Author 4", "ISBN4", 12.0, 3));
+        
+        MyArrayList<Book> result = SearchingAlgorithms.findBooksByTitlePrefix(index, "the", 2);
+        assertEquals("Should stop at the limit", 2, result.size());
+        assertEquals("First result should be The Great Gatsby", "The Great Gatsby", result.get(0).getTitle());
+        assertEquals("Second result should be The Hobbit", "The Hobbit", result.get(1).getTitle());
+    }
+    
+    @Test
+    public void testFindBooksByTitlePrefixConcurrentIndex() {
+        MyArrayList<Book> books = new MyArrayList<>();
+        books.add(new Book("The Hobbit", "Author 1", "ISBN1", 10.0, 5));
+        books.add(new Book("Dune", "Author 2", "ISBN2", 15.0, 10));
+        books.add(new Book("The Great Gatsby", "Author 3", "ISBN3", 20.0, 15));
+        
+        MyConcurrentSkipList<Book> index = SearchingAlgorithms.buildConcurrentTitleIndex(books);
+        index.insert(new Book("The Road", "Author 4", "ISBN4", 12.0, 3));
+        index.insert(new Book("Theory of Everything", "Author 5", "ISBN5", 9.0, 2));
+        
+        MyArrayList<Book> result = SearchingAlgorithms.findBooksByTitlePrefix(index, "the ", 10);
+        assertEquals("Should find the three titles starting with 'the '", 3, result.size());
+        assertEquals("First result should be The Great Gatsby", "The Great Gatsby", result.get(0).getTitle());
+        assertEquals("Last result should be The Road", "The Road", result.get(2).getTitle());
+        assertEquals("Should stop at the limit", 2, SearchingAlgorithms.findBooksByTitlePrefix(index, "THE", 2).size());
+        assertTrue("Unknown prefix should find nothing",
+                   SearchingAlgorithms.findBooksByTitlePrefix(index, "Zen", 10).isEmpty());
+    }
+    
     @Test
     public void testFindBooksByAuthor() {
         MyArrayList<Book> books = new MyArrayList<>();
@@ -81,6 +196,95 @@ SearchingAlgorithmsTest {
         assertEquals("Second result should be Book 3", "Book 3", result.get(1).getTitle());
     }
     
+    @Test
+    public void testFindBooksBySubstring() {
+        MyArrayList<Book> books = new MyArrayList<>();
+        books.add(new Book("Book 1", "Author 1", "ISBN1", 10.0, 5));
+        books.add(new Book("Book 2", "Author 2", "ISBN2", 15.0, 10));
+        books.add(new Book("Book 3", "Author 1", "ISBN3", 20.0, 15));
+        
+        TrigramIndex<Book> authors = SearchingAlgorithms.buildAuthorTrigramIndex(books);
+        MyArrayList<Book> result = SearchingAlgorithms.findBooksBySubstring(authors, "author 1");
+        assertEquals("Should find 2 books by Author 1", 2, result.size());
+        assertEquals("First result should be Book 1", "Book 1", result.get(0).getTitle());
+        assertEquals("Second result should be Book 3", "Book 3", result.get(1).getTitle());
+        
+        TrigramIndex<Book> titles = SearchingAlgorithms.buildTitleTrigramIndex(books);
+        titles.add(new Book("Notebook", "Author 4", "ISBN4", 8.0, 1));
+        assertEquals("Should find every title containing 'book'", 4,
+                     SearchingAlgorithms.findBooksBySubstring(titles, "BOOK").size());
+    }
+    
+    @Test
+    public void testBatchSearch() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i / 3 * 2);   // Even numbers, each three times
+        }
+        
+        Random random = new Random(42);
+        Integer[] targets = new Integer[500];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = random.nextInt(700) - 10;
+        }
+        
+        int[] result = SearchingAlgorithms.batchSearch(list, targets, AlgorithmUtils.naturalOrder());
+        for (int i = 0; i < targets.length; i++) {
+            int target = targets[i];
+            int expected = target >= 0 && target % 2 == 0 && target < 666 ? target / 2 * 3 : -1;
+            assertEquals("Target " + target + " should map to its first occurrence", expected, result[i]);
+        }
+    }
+    
+    @Test
+    public void testFindBooksByIsbns() {
+        MyArrayList<Book> books = new MyArrayList<>();
+        books.add(new Book("Book 1", "Author 1", "ISBN1", 15.0, 4));
+        books.add(new Book("Book 2", "Author 2", "ISBN2", 5.0, 0));
+        books.add(new Book("Book 3", "Author 1", "ISBN3", 10.0, 4));
+        
+        Book[] found = SearchingAlgorithms.findBooksByIsbns(books, new String[] {"ISBN3", "ISBN0", "ISBN1", "ISBN3"});
+        assertEquals("Should find Book 3", "Book 3", found[0].getTitle());
+        assertNull("Should return null for unknown ISBN", found[1]);
+        assertEquals("Should find Book 1", "Book 1", found[2].getTitle());
+        assertEquals("Should find repeated ISBN again", "Book 3", found[3].getTitle());
+        assertEquals("Empty batch should give empty result", 0,
+                     SearchingAlgorithms.findBooksByIsbns(books, new String[0]).length);
+        
+        // Case-sensitive ISBN order differs from the case-insensitive presort
+        MyArrayList<Book> mixedCase = new MyArrayList<>();
+        mixedCase.add(new Book("Book A", "Author", "ISBN1", 1.0, 1));
+        mixedCase.add(new Book("Book B", "Author", "ISBNa", 1.0, 1));
+        mixedCase.add(new Book("Book C", "Author", "isbn2", 1.0, 1));
+        found = SearchingAlgorithms.findBooksByIsbns(mixedCase, new String[] {"isbn2", "ISBNa", "ISBN1"});
+        assertEquals("Should find lower-case ISBN", "Book C", found[0].getTitle());
+        assertEquals("Should find ISBN ending in a letter", "Book B", found[1].getTitle());
+        assertEquals("Should find upper-case ISBN", "Book A", found[2].getTitle());
+    }
+    
+    @Test
+    public void testEytzingerIndexes() {
+        MyArrayList<Book> books = new MyArrayList<>();
+        books.add(new Book("Book 1", "Author 1", "ISBN1", 15.0, 4));
+        books.add(new Book("Book 2", "Author 2", "ISBN2", 5.0, 0));
+        books.add(new Book("Book 3", "Author 1", "ISBN3", 10.0, 4));
+        books.add(new Book("Book 4", "Author 3", "ISBN4", 10.0, 2));
+        
+        EytzingerIndex<Book> isbns = SearchingAlgorithms.buildIsbnHashIndex(books);
+        assertEquals("Should find Book 3 by ISBN", "Book 3", SearchingAlgorithms.findBookByIsbn(isbns, "ISBN3").getTitle());
+        assertNull("Should return null for unknown ISBN", SearchingAlgorithms.findBookByIsbn(isbns, "ISBN9"));
+        
+        EytzingerIndex<Book> prices = SearchingAlgorithms.buildPriceIndex(books);
+        MyArrayList<Book> result = SearchingAlgorithms.findBooksByPrice(prices, 6.0, 15.0);
+        assertEquals("Should find 3 books priced 6.00 to 15.00", 3, result.size());
+        assertEquals("Equal prices should keep catalog order", "Book 3", result.get(0).getTitle());
+        assertEquals("Most expensive match should be last", "Book 1", result.get(2).getTitle());
+        
+        EytzingerIndex<Book> quantities = SearchingAlgorithms.buildQuantityIndex(books);
+        assertEquals("Should count 1 book out of stock", 1, quantities.count(0, 0));
+        assertEquals("Should count 2 books with 4 in stock", 2, quantities.count(4, 4));
+    }
+    
     @Test
     public void testFindOrderById() {
         MyArrayList<Order> orders = new MyArrayList<>();
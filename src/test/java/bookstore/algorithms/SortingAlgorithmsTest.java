@@ -1,10 +1,12 @@
 package bookstore.algorithms;
 
 import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
 import java.util.Comparator;
+import java.util.Random;
 
 public class SortingAlgorithmsTest {
     
@@ -50,6 +52,512 @@ public class SortingAlgorithmsTest {
         assertSorted(list);
     }
     
+    @Test
+    public void testIntroSort() {
+        MyArrayList<Integer> list = createUnsortedIntegerList();
+        SortingAlgorithms.introSort(list);
+        assertSorted(list);
+    }
+    
+    @Test
+    public void testIntroSortWithComparator() {
+        MyArrayList<String> list = createUnsortedStringList();
+        SortingAlgorithms.introSort(list, Comparator.reverseOrder());
+        assertSorted(list, Comparator.reverseOrder());
+    }
+    
+    @Test
+    public void testIntroSortLargeSortedAndReversed() {
+        // Inputs that send the last-element-pivot quick sort quadratic and overflow its stack
+        MyArrayList<Integer> ascending = new MyArrayList<>();
+        MyArrayList<Integer> descending = new MyArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            ascending.add(i);
+            descending.add(200_000 - i);
+        }
+        SortingAlgorithms.introSort(ascending);
+        SortingAlgorithms.introSort(descending);
+        assertSorted(ascending);
+        assertSorted(descending);
+        assertEquals("First element should be smallest", Integer.valueOf(1), descending.get(0));
+    }
+    
+    @Test
+    public void testIntroSortAllEqualAndManyDuplicates() {
+        MyArrayList<Integer> allEqual = new MyArrayList<>();
+        MyArrayList<Integer> duplicates = new MyArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            allEqual.add(5);
+            duplicates.add(random.nextInt(4));
+        }
+        SortingAlgorithms.introSort(allEqual);
+        SortingAlgorithms.introSort(duplicates);
+        assertSorted(allEqual);
+        assertSorted(duplicates);
+        assertEquals("Size should be unchanged", 200_000, duplicates.size());
+    }
+    
+    @Test
+    public void testIntroSortMatchesMergeSort() {
+        Random random = new Random(42);
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(random.nextInt(1_000_000));
+        }
+        MyArrayList<Integer> expected = AlgorithmUtils.copyList(list);
+        SortingAlgorithms.mergeSort(expected);
+        SortingAlgorithms.introSort(list);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals("Element at " + i + " should match merge sort", expected.get(i), list.get(i));
+        }
+    }
+    
+    @Test
+    public void testTimSort() {
+        MyArrayList<Integer> list = createUnsortedIntegerList();
+        SortingAlgorithms.timSort(list);
+        assertSorted(list);
+    }
+    
+    @Test
+    public void testTimSortLargeIsStable() {
+        // Random keys give short natural runs, so this exercises minrun extension and galloping merges
+        MyArrayList<int[]> list = createKeySequenceList(200_000, 500);
+        SortingAlgorithms.timSort(list, Comparator.comparingInt(pair -> pair[0]));
+        assertEquals("Size should be unchanged", 200_000, list.size());
+        assertSortedAndStable(list);
+    }
+    
+    @Test
+    public void testTimSortMixedRuns() {
+        // Ascending, descending and constant stretches of different lengths
+        Random random = new Random(11);
+        MyArrayList<Integer> list = new MyArrayList<>();
+        while (list.size() < 100_000) {
+            int length = 1 + random.nextInt(3000);
+            int start = random.nextInt(1_000_000);
+            int shape = random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                list.add(shape == 0 ? start + i : shape == 1 ? start - i : start);
+            }
+        }
+        MyArrayList<Integer> expected = AlgorithmUtils.copyList(list);
+        SortingAlgorithms.mergeSort(expected);
+        SortingAlgorithms.timSort(list);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals("Element at " + i + " should match merge sort", expected.get(i), list.get(i));
+        }
+    }
+    
+    @Test
+    public void testTimSortIsLinearOnNearlySortedInput() {
+        final int size = 100_000;
+        MyArrayList<Integer> sorted = new MyArrayList<>();
+        MyArrayList<Integer> reversed = new MyArrayList<>();
+        for (int i = 0; i < size; i++) {
+            sorted.add(i * 2);
+            reversed.add(size - i);
+        }
+        // A few new elements appended to a sorted list
+        MyArrayList<Integer> appended = AlgorithmUtils.copyList(sorted);
+        appended.add(77_777);
+        appended.add(3);
+        appended.add(150_001);
+        
+        int[] comparisons = new int[1];
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons[0]++;
+            return Integer.compare(a, b);
+        };
+        
+        SortingAlgorithms.timSort(sorted, counting);
+        assertEquals("Sorted input should need one pass", size - 1, comparisons[0]);
+        
+        comparisons[0] = 0;
+        SortingAlgorithms.timSort(reversed, counting);
+        assertSorted(reversed);
+        assertEquals("Reversed input should need one pass", size - 1, comparisons[0]);
+        
+        comparisons[0] = 0;
+        SortingAlgorithms.timSort(appended, counting);
+        assertSorted(appended);
+        assertTrue("Appending a few elements should stay near-linear, was " + comparisons[0],
+                   comparisons[0] < size + 200);
+    }
+    
+    @Test
+    public void testRadixSortByIntIsStable() {
+        MyArrayList<int[]> list = createKeySequenceList(100_000, 300);
+        // Shift keys so negatives are covered too
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i)[0] -= 150;
+        }
+        SortingAlgorithms.radixSortByInt(list, pair -> pair[0]);
+        assertSortedAndStable(list);
+    }
+    
+    @Test
+    public void testRadixSortByIntDescendingIsStable() {
+        MyArrayList<int[]> list = createKeySequenceList(50_000, 100);
+        list.add(new int[] {Integer.MIN_VALUE, 50_000});
+        list.add(new int[] {Integer.MAX_VALUE, 50_001});
+        SortingAlgorithms.radixSortByInt(list, pair -> pair[0], true);
+        
+        assertEquals("Largest key should be first", Integer.MAX_VALUE, list.get(0)[0]);
+        assertEquals("Smallest key should be last", Integer.MIN_VALUE, list.get(list.size() - 1)[0]);
+        for (int i = 0; i < list.size() - 1; i++) {
+            int[] current = list.get(i);
+            int[] next = list.get(i + 1);
+            assertTrue("Keys should be descending at index " + i, current[0] >= next[0]);
+            if (current[0] == next[0]) {
+                assertTrue("Equal keys should keep their original order at index " + i, current[1] < next[1]);
+            }
+        }
+    }
+    
+    @Test
+    public void testRadixSortByLong() {
+        Random random = new Random(5);
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            list.add(random.nextLong());
+        }
+        list.add(Long.MIN_VALUE);
+        list.add(Long.MAX_VALUE);
+        list.add(0L);
+        SortingAlgorithms.radixSortByLong(list, Long::longValue);
+        assertSorted(list);
+        assertEquals("Smallest key should be first", Long.valueOf(Long.MIN_VALUE), list.get(0));
+        
+        SortingAlgorithms.radixSortByLong(list, Long::longValue, true);
+        assertSorted(list, Comparator.reverseOrder());
+    }
+    
+    @Test
+    public void testRadixSortByDoubleMatchesDoubleCompare() {
+        MyArrayList<Double> list = new MyArrayList<>();
+        double[] special = {3.5, -0.0, 0.0, Double.NaN, -2.25, Double.NEGATIVE_INFINITY,
+                            Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE, 1e-300, -1e-300};
+        for (double value : special) {
+            list.add(value);
+        }
+        Random random = new Random(9);
+        for (int i = 0; i < 10_000; i++) {
+            list.add((random.nextDouble() - 0.5) * 1000);
+        }
+        
+        SortingAlgorithms.radixSortByDouble(list, Double::doubleValue);
+        assertSorted(list, Double::compare);
+        assertEquals("Negative infinity should be first", Double.NEGATIVE_INFINITY, list.get(0), 0.0);
+        assertTrue("NaN should be last", Double.isNaN(list.get(list.size() - 1)));
+        
+        SortingAlgorithms.radixSortByDouble(list, Double::doubleValue, true);
+        assertSorted(list, (a, b) -> Double.compare(b, a));
+    }
+    
+    @Test
+    public void testRadixSortByPriceMatchesComparatorSort() {
+        Random random = new Random(3);
+        MyArrayList<Book> books = new MyArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            // Few distinct prices so stability matters
+            books.add(new Book("Title " + i, "Author", "ISBN" + i, random.nextInt(50) * 0.5, random.nextInt(20)));
+        }
+        MyArrayList<Book> expected = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.mergeSort(expected, Book.BY_PRICE_DESC);
+        SortingAlgorithms.radixSortByDouble(books, Book::getPrice, true);
+        for (int i = 0; i < books.size(); i++) {
+            assertSame("Book at " + i + " should match stable comparator sort", expected.get(i), books.get(i));
+        }
+    }
+    
+    @Test
+    public void testMultikeyQuickSortMatchesCaseInsensitiveOrder() {
+        // Mixed case, shared prefixes, prefixes of other keys and duplicates
+        Random random = new Random(21);
+        String[] stems = {"the ", "The Great ", "harry potter ", "A", "a", ""};
+        MyArrayList<String> list = new MyArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder key = new StringBuilder(stems[random.nextInt(stems.length)]);
+            int extra = random.nextInt(4);
+            for (int j = 0; j < extra; j++) {
+                char c = (char) ('a' + random.nextInt(3));
+                key.append(random.nextBoolean() ? Character.toUpperCase(c) : c);
+            }
+            list.add(key.toString());
+        }
+        
+        SortingAlgorithms.multikeyQuickSort(list, s -> s);
+        assertEquals("Size should be unchanged", 20_000, list.size());
+        assertSorted(list, String.CASE_INSENSITIVE_ORDER);
+    }
+    
+    @Test
+    public void testMultikeyQuickSortExactOrder() {
+        // Upper and lower case must not interleave, e.g. "978B" < "978a"
+        Random random = new Random(22);
+        MyArrayList<String> list = new MyArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            StringBuilder key = new StringBuilder("978");
+            int extra = random.nextInt(4);
+            for (int j = 0; j < extra; j++) {
+                char c = (char) ('a' + random.nextInt(3));
+                key.append(random.nextBoolean() ? Character.toUpperCase(c) : c);
+            }
+            list.add(key.toString());
+        }
+        
+        SortingAlgorithms.multikeyQuickSort(list, s -> s, false);
+        assertSorted(list, Comparator.<String>naturalOrder());
+    }
+    
+    @Test
+    public void testSortedOrderLeavesKeysInPlace() {
+        String[] keys = {"978b", "978A", "978", "978a", "978B", "978ab"};
+        String[] original = keys.clone();
+        
+        int[] exact = SortingAlgorithms.multikeySortedOrder(keys, false);
+        int[] merged = SortingAlgorithms.sortedOrder(keys, Comparator.<String>naturalOrder());
+        assertArrayEquals("Keys should not be moved", original, keys);
+        assertArrayEquals("Multikey order should be exact string order", new int[] {2, 1, 4, 3, 5, 0}, exact);
+        assertArrayEquals("Merge order should match", new int[] {2, 1, 4, 3, 5, 0}, merged);
+        
+        int[] folded = SortingAlgorithms.multikeySortedOrder(keys, true);
+        for (int i = 1; i < folded.length; i++) {
+            assertTrue("Folded order should ignore case",
+                       String.CASE_INSENSITIVE_ORDER.compare(keys[folded[i - 1]], keys[folded[i]]) <= 0);
+        }
+    }
+    
+    @Test
+    public void testRadixSortedOrderIsStable() {
+        long[] keys = {5L, -3L, Long.MAX_VALUE, 5L, Long.MIN_VALUE, 0L, -3L};
+        long[] original = keys.clone();
+        
+        int[] order = SortingAlgorithms.radixSortedOrder(keys);
+        assertArrayEquals("Keys should not be moved", original, keys);
+        assertArrayEquals("Order should be ascending and stable", new int[] {4, 1, 6, 5, 0, 3, 2}, order);
+        assertEquals("Empty keys should give an empty order", 0, SortingAlgorithms.radixSortedOrder(new long[0]).length);
+    }
+    
+    @Test
+    public void testSortByTitlePutsDigitTitlesLast() {
+        MyArrayList<Book> books = new MyArrayList<>();
+        String[] titles = {"1984", "the hobbit", "Brave New World", "2001: A Space Odyssey",
+                           "The Hobbit", "animal farm", "", "451 Degrees", "The Great Gatsby"};
+        for (int i = 0; i < titles.length; i++) {
+            books.add(new Book(titles[i], "Author", "ISBN" + i, 10.0, 1));
+        }
+        
+        SortingAlgorithms.sortByTitle(books);
+        assertSorted(books, Book.BY_TITLE);
+        assertEquals("Empty title should sort first", "", books.get(0).getTitle());
+        assertEquals("Digit-leading title should sort last", "451 Degrees", books.get(books.size() - 1).getTitle());
+    }
+    
+    @Test
+    public void testSortByTitleAndAuthorMatchComparators() {
+        Random random = new Random(8);
+        MyArrayList<Book> books = new MyArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String title = (random.nextInt(10) == 0 ? String.valueOf(random.nextInt(100)) : "Title ")
+                           + (char) ('A' + random.nextInt(26)) + random.nextInt(50);
+            String author = random.nextBoolean() ? "author " + random.nextInt(40) : "AUTHOR " + random.nextInt(40);
+            books.add(new Book(title, author, "ISBN" + i, 10.0, 1));
+        }
+        
+        MyArrayList<Book> byTitle = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.sortByTitle(byTitle);
+        assertSorted(byTitle, Book.BY_TITLE);
+        
+        MyArrayList<Book> byAuthor = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.sortByAuthor(byAuthor);
+        assertSorted(byAuthor, Book.BY_AUTHOR);
+    }
+    
+    @Test
+    public void testSortByKeyIsStable() {
+        MyArrayList<int[]> list = createKeySequenceList(50_000, 200);
+        SortingAlgorithms.sortByKey(list, pair -> pair[0]);
+        assertEquals("Size should be unchanged", 50_000, list.size());
+        assertSortedAndStable(list);
+    }
+    
+    @Test
+    public void testSortByKeyWithBookKeysMatchesComparators() {
+        Random random = new Random(17);
+        MyArrayList<Book> books = new MyArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String title = (random.nextInt(8) == 0 ? String.valueOf(random.nextInt(100)) : "the Title ")
+                           + (char) ('a' + random.nextInt(26)) + random.nextInt(20);
+            String author = (random.nextBoolean() ? "author " : "AUTHOR ") + random.nextInt(30);
+            books.add(new Book(title, author, "ISBN" + i, 10.0, 1));
+        }
+        books.add(new Book("", "", "ISBN-EMPTY", 10.0, 1));
+        
+        // Both sorts are stable, so the results must be identical
+        MyArrayList<Book> expected = AlgorithmUtils.copyList(books);
+        MyArrayList<Book> actual = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.mergeSort(expected, Book.BY_TITLE);
+        SortingAlgorithms.sortByKey(actual, Book.TITLE_SORT_KEY);
+        for (int i = 0; i < actual.size(); i++) {
+            assertSame("Title order should match BY_TITLE at " + i, expected.get(i), actual.get(i));
+        }
+        
+        expected = AlgorithmUtils.copyList(books);
+        actual = AlgorithmUtils.copyList(books);
+        SortingAlgorithms.mergeSort(expected, Book.BY_AUTHOR);
+        SortingAlgorithms.sortByKey(actual, Book.AUTHOR_SORT_KEY);
+        for (int i = 0; i < actual.size(); i++) {
+            assertSame("Author order should match BY_AUTHOR at " + i, expected.get(i), actual.get(i));
+        }
+    }
+    
+    @Test
+    public void testTopK() {
+        MyArrayList<Integer> list = createUnsortedIntegerList();
+        MyArrayList<Integer> top = SortingAlgorithms.topK(list, 3, Comparator.naturalOrder());
+        assertEquals("Should return k elements", 3, top.size());
+        assertEquals("Smallest should be first", Integer.valueOf(1), top.get(0));
+        assertEquals("Third smallest should be last", Integer.valueOf(3), top.get(2));
+        assertEquals("Original list should be untouched", Integer.valueOf(5), list.get(0));
+    }
+    
+    @Test
+    public void testTopKEdgeCases() {
+        MyArrayList<Integer> list = createUnsortedIntegerList();
+        assertEquals("k of 0 should give an empty list", 0, SortingAlgorithms.topK(list, 0, Comparator.naturalOrder()).size());
+        
+        MyArrayList<Integer> all = SortingAlgorithms.topK(list, 100, Comparator.naturalOrder());
+        assertEquals("k beyond size should give every element", list.size(), all.size());
+        assertSorted(all);
+        
+        MyArrayList<Integer> largest = SortingAlgorithms.topK(list, 2, Comparator.reverseOrder());
+        assertEquals("Reversed comparator should give the largest", Integer.valueOf(9), largest.get(0));
+        assertEquals("Second largest should follow", Integer.valueOf(8), largest.get(1));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testTopKNegative() {
+        SortingAlgorithms.topK(createUnsortedIntegerList(), -1, Comparator.naturalOrder());
+    }
+    
+    @Test
+    public void testTopKMatchesFullSort() {
+        Random random = new Random(4);
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(random.nextInt(5_000));
+        }
+        MyArrayList<Integer> sorted = AlgorithmUtils.copyList(list);
+        SortingAlgorithms.mergeSort(sorted);
+        
+        MyArrayList<Integer> top = SortingAlgorithms.topK(list, 50, Comparator.naturalOrder());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Element " + i + " should match the full sort", sorted.get(i), top.get(i));
+        }
+    }
+    
+    @Test
+    public void testSelect() {
+        MyArrayList<Integer> list = createUnsortedIntegerList();
+        assertEquals("Smallest element", Integer.valueOf(1), SortingAlgorithms.select(list, 0, Comparator.naturalOrder()));
+        assertEquals("Median element", Integer.valueOf(5), SortingAlgorithms.select(list, 4, Comparator.naturalOrder()));
+        assertEquals("Selected element should be at its index", Integer.valueOf(5), list.get(4));
+        assertEquals("Largest element", Integer.valueOf(9), SortingAlgorithms.select(list, 8, Comparator.naturalOrder()));
+    }
+    
+    @Test
+    public void testSelectPartitionsLargeList() {
+        Random random = new Random(12);
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            // Sorted prefix plus many duplicates to stress pivot choice
+            list.add(i < 100_000 ? i : random.nextInt(100));
+        }
+        MyArrayList<Integer> sorted = AlgorithmUtils.copyList(list);
+        SortingAlgorithms.mergeSort(sorted);
+        
+        int[] ranks = {0, 1, 777, 100_000, 150_000, 199_999};
+        for (int k : ranks) {
+            Integer selected = SortingAlgorithms.select(list, k, Comparator.naturalOrder());
+            assertEquals("Rank " + k + " should match the full sort", sorted.get(k), selected);
+            for (int i = 0; i < list.size(); i++) {
+                int cmp = list.get(i).compareTo(selected);
+                assertTrue("List should be partitioned around rank " + k, i < k ? cmp <= 0 : i > k ? cmp >= 0 : cmp == 0);
+            }
+        }
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfBounds() {
+        SortingAlgorithms.select(createUnsortedIntegerList(), 9, Comparator.naturalOrder());
+    }
+    
+    @Test
+    public void testParallelMergeSort() {
+        MyArrayList<Integer> list = createUnsortedIntegerList();
+        SortingAlgorithms.parallelMergeSort(list);
+        assertSorted(list);
+    }
+    
+    @Test
+    public void testParallelMergeSortEmptyAndSingle() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        SortingAlgorithms.parallelMergeSort(list);
+        assertEquals("Empty list should stay empty", 0, list.size());
+        
+        list.add(42);
+        SortingAlgorithms.parallelMergeSort(list);
+        assertEquals("Single element should be unchanged", Integer.valueOf(42), list.get(0));
+    }
+    
+    @Test
+    public void testParallelMergeSortLargeIsStable() {
+        // Large enough to fork sort and merge tasks; many equal keys to check stability
+        MyArrayList<int[]> list = createKeySequenceList(300_000, 1000);
+        SortingAlgorithms.parallelMergeSort(list, Comparator.comparingInt(pair -> pair[0]));
+        assertEquals("Size should be unchanged", 300_000, list.size());
+        assertSortedAndStable(list);
+    }
+    
+    @Test
+    public void testParallelMergeSortPresortedInputs() {
+        MyArrayList<Integer> ascending = new MyArrayList<>();
+        MyArrayList<Integer> descending = new MyArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ascending.add(i);
+            descending.add(100_000 - i);
+        }
+        SortingAlgorithms.parallelMergeSort(ascending);
+        SortingAlgorithms.parallelMergeSort(descending);
+        assertSorted(ascending);
+        assertSorted(descending);
+    }
+    
+    // Helper method to create (key, original position) pairs with random keys
+    private MyArrayList<int[]> createKeySequenceList(int size, int distinctKeys) {
+        Random random = new Random(42);
+        MyArrayList<int[]> list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new int[] {random.nextInt(distinctKeys), i});
+        }
+        return list;
+    }
+    
+    // Helper method to check pairs are sorted by key and equal keys keep their original order
+    private void assertSortedAndStable(MyArrayList<int[]> list) {
+        for (int i = 0; i < list.size() - 1; i++) {
+            int[] current = list.get(i);
+            int[] next = list.get(i + 1);
+            assertTrue("Keys should be sorted at index " + i, current[0] <= next[0]);
+            if (current[0] == next[0]) {
+                assertTrue("Equal keys should keep their original order at index " + i, current[1] < next[1]);
+            }
+        }
+    }
+    
     // Helper method to create an unsorted list of integers
     private MyArrayList<Integer> createUnsortedIntegerList() {
         MyArrayList<Integer> list = new MyArrayList<>();
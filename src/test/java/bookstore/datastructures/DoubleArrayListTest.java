@@ -0,0 +1,40 @@
+package bookstore.datastructures;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DoubleArrayListTest {
+    
+    @Test
+    public void testAddAndGet() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addAll(12.99, 9.99);
+        list.add(1, 14.99);
+        
+        assertEquals("Size should be 3", 3, list.size());
+        assertEquals("Inserted value should be at index 1", 14.99, list.get(1), 0.0);
+        assertEquals("Last value should be 9.99", 9.99, list.get(2), 0.0);
+    }
+    
+    @Test
+    public void testSortAndBinarySearch() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addAll(3.5, Double.NaN, -1.0, 0.0, -0.0);
+        
+        list.sort();
+        
+        assertEquals("Negative value should come first", -1.0, list.get(0), 0.0);
+        assertEquals("-0.0 should sort before 0.0", 1, list.indexOf(-0.0));
+        assertTrue("NaN should sort last", Double.isNaN(list.get(4)));
+        assertEquals("3.5 should be found at index 3", 3, list.binarySearch(3.5));
+        assertTrue("NaN should be found by contains", list.contains(Double.NaN));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetOutOfBounds() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.add(1.0);
+        
+        list.set(1, 2.0); // This should throw an exception
+    }
+}
@@ -0,0 +1,80 @@
+package bookstore.datastructures;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EytzingerIndexTest {
+    
+    @Test
+    public void testBoundsMatchSortedArrayForEverySize() {
+        Random random = new Random(42);
+        for (int size = 0; size <= 70; size++) {
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = random.nextInt(40) - 20;   // Plenty of duplicates and negatives
+            }
+            Arrays.sort(keys);
+            EytzingerIndex<Long> index = new EytzingerIndex<>(toList(keys), Long::longValue);
+            
+            assertEquals("Index should hold every key", size, index.size());
+            for (long key = -22; key <= 22; key++) {
+                int lower = 0;
+                while (lower < size && keys[lower] < key) {
+                    lower++;
+                }
+                int upper = lower;
+                while (upper < size && keys[upper] == key) {
+                    upper++;
+                }
+                assertEquals("lowerBound of " + key + " with size " + size, lower, index.lowerBound(key));
+                assertEquals("upperBound of " + key + " with size " + size, upper, index.upperBound(key));
+                assertEquals("indexOf " + key + " with size " + size, lower < upper ? lower : -1, index.indexOf(key));
+            }
+        }
+    }
+    
+    @Test
+    public void testExtremeKeysDoNotOverflow() {
+        long[] keys = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE};
+        EytzingerIndex<Long> index = new EytzingerIndex<>(toList(keys), Long::longValue);
+        
+        assertEquals("MIN_VALUE should be first", 0, index.indexOf(Long.MIN_VALUE));
+        assertEquals("MAX_VALUE should be last", 4, index.indexOf(Long.MAX_VALUE));
+        assertEquals("Nothing should be above MAX_VALUE", 5, index.upperBound(Long.MAX_VALUE));
+        assertEquals("Both ends should be counted", 5, index.count(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void testRangeAndCount() {
+        EytzingerIndex<Long> index = new EytzingerIndex<>(toList(new long[] {1, 3, 3, 5, 7, 9}), Long::longValue);
+        
+        MyArrayList<Long> range = index.range(3, 7);
+        assertEquals("Range should include both ends", 4, range.size());
+        assertEquals("Range should start at the first 3", Long.valueOf(3), range.get(0));
+        assertEquals("Range should end at 7", Long.valueOf(7), range.get(3));
+        assertEquals("Count should match range", 4, index.count(3, 7));
+        assertEquals("Empty range should count nothing", 0, index.count(8, 2));
+        assertTrue("Empty range should return nothing", index.range(8, 2).isEmpty());
+        assertEquals("get should follow sorted order", Long.valueOf(9), index.get(5));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsUnsortedList() {
+        new EytzingerIndex<>(toList(new long[] {1, 3, 2}), Long::longValue);
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        new EytzingerIndex<>(toList(new long[] {1}), Long::longValue).get(1);
+    }
+    
+    private static MyArrayList<Long> toList(long[] keys) {
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (long key : keys) {
+            list.add(key);
+        }
+        return list;
+    }
+}
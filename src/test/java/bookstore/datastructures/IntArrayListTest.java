@@ -0,0 +1,68 @@
+package bookstore.datastructures;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class IntArrayListTest {
+    
+    @Test
+    public void testAddAndGet() {
+        IntArrayList list = new IntArrayList();
+        list.add(5);
+        list.add(0, 3);
+        
+        assertEquals("Size should be 2", 2, list.size());
+        assertEquals("First value should be 3", 3, list.get(0));
+        assertEquals("Second value should be 5", 5, list.get(1));
+    }
+    
+    @Test
+    public void testResizeAndBulkAdd() {
+        IntArrayList list = new IntArrayList(2);
+        
+        for (int i = 0; i < 15; i++) {
+            list.add(i);
+        }
+        list.addAll(100, 101, 102);
+        
+        IntArrayList other = new IntArrayList();
+        other.addAll(200, 201);
+        list.addAll(other);
+        
+        assertEquals("Size should be 20", 20, list.size());
+        assertEquals("Value at index 14 should be 14", 14, list.get(14));
+        assertEquals("Bulk added value should follow", 100, list.get(15));
+        assertEquals("Last value should come from the other list", 201, list.get(19));
+    }
+    
+    @Test
+    public void testRemoveAndIndexOf() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(10, 20, 30);
+        
+        assertEquals("Removed value should be 20", 20, list.removeAt(1));
+        assertEquals("Size should be 2 after removal", 2, list.size());
+        assertEquals("30 should now be at index 1", 1, list.indexOf(30));
+        assertFalse("20 should no longer be present", list.contains(20));
+    }
+    
+    @Test
+    public void testSortAndBinarySearch() {
+        IntArrayList list = new IntArrayList();
+        list.addAll(9, 4, 7, 1, 4);
+        
+        list.sort();
+        
+        assertArrayEquals("Values should be sorted", new int[] {1, 4, 4, 7, 9}, list.toArray());
+        assertEquals("7 should be found at index 3", 3, list.binarySearch(7));
+        assertEquals("Missing value should report insertion point", -4, list.binarySearch(5));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        
+        list.get(1); // This should throw an exception
+    }
+}
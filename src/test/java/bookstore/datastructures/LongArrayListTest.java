@@ -0,0 +1,38 @@
+package bookstore.datastructures;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class LongArrayListTest {
+    
+    @Test
+    public void testAddSetAndRemove() {
+        LongArrayList list = new LongArrayList();
+        list.addAll(1L << 40, 2L, 3L);
+        
+        assertEquals("Old value should be returned from set", 2L, list.set(1, 20L));
+        assertEquals("Large value should be stored without truncation", 1L << 40, list.removeAt(0));
+        assertArrayEquals("Remaining values should shift left", new long[] {20L, 3L}, list.toArray());
+    }
+    
+    @Test
+    public void testSortAndBinarySearch() {
+        LongArrayList list = new LongArrayList(1);
+        for (long i = 20; i > 0; i--) {
+            list.add(i * 1_000_000_000L);
+        }
+        
+        list.sort();
+        
+        assertEquals("Smallest value should be first", 1_000_000_000L, list.get(0));
+        assertEquals("5e9 should be found at index 4", 4, list.binarySearch(5_000_000_000L));
+        assertTrue("Missing value should not be found", list.binarySearch(7L) < 0);
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveOutOfBounds() {
+        LongArrayList list = new LongArrayList();
+        
+        list.removeAt(0); // This should throw an exception
+    }
+}
@@ -0,0 +1,154 @@
+package bookstore.datastructures;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MpscQueueTest {
+    
+    @Test
+    public void testEnqueueAndDequeue() {
+        MpscQueue<String> queue = new MpscQueue<>();
+        
+        queue.enqueue("First");
+        queue.enqueue("Second");
+        queue.enqueue("Third");
+        
+        assertEquals("Size should be 3", 3, queue.size());
+        assertEquals("First element should be 'First'", "First", queue.peek());
+        assertEquals("Dequeued element should be 'First'", "First", queue.dequeue());
+        assertEquals("Polled element should be 'Second'", "Second", queue.poll());
+        assertEquals("Dequeued element should be 'Third'", "Third", queue.dequeue());
+        
+        assertTrue("Queue should be empty after all elements are dequeued", queue.isEmpty());
+        assertNull("Poll on empty queue should return null", queue.poll());
+    }
+    
+    @Test
+    public void testDrainTo() {
+        MpscQueue<Integer> queue = new MpscQueue<>();
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(i);
+        }
+        
+        MyArrayList<Integer> batch = new MyArrayList<>();
+        assertEquals("Should drain up to max elements", 4, queue.drainTo(batch, 4));
+        assertEquals("Should drain the rest", 6, queue.drainTo(batch, 100));
+        
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Drained elements should keep FIFO order", Integer.valueOf(i), batch.get(i));
+        }
+        assertTrue("Queue should be empty after draining", queue.isEmpty());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testDequeueEmpty() {
+        new MpscQueue<String>().dequeue();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testEnqueueNull() {
+        new MpscQueue<String>().enqueue(null);
+    }
+    
+    @Test(timeout = 60000)
+    public void testConcurrentProducersLoseNothingAndKeepOrder() throws InterruptedException {
+        final int producers = 4;
+        final int perProducer = 200_000;
+        MpscQueue<long[]> queue = new MpscQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        
+        for (int p = 0; p < producers; p++) {
+            final int id = p;
+            threads[p] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int seq = 0; seq < perProducer; seq++) {
+                    queue.enqueue(new long[] {id, seq});
+                }
+            });
+            threads[p].start();
+        }
+        
+        start.countDown();
+        
+        // Consume concurrently, alternating single polls and batch drains
+        int[] nextExpected = new int[producers];
+        int received = 0;
+        MyArrayList<long[]> batch = new MyArrayList<>();
+        while (received < producers * perProducer) {
+            batch.clear();
+            if (received % 2 == 0) {
+                queue.drainTo(batch, 64);
+            } else {
+                long[] item = queue.poll();
+                if (item != null) {
+                    batch.add(item);
+                }
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                int producer = (int) batch.get(i)[0];
+                int seq = (int) batch.get(i)[1];
+                assertEquals("Elements of one producer should arrive in order without gaps or duplicates",
+                             nextExpected[producer], seq);
+                nextExpected[producer]++;
+                received++;
+            }
+        }
+        
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue("No extra elements should remain", queue.isEmpty());
+    }
+    
+    @Test(timeout = 60000)
+    public void testCrossThreadRealTimeOrder() throws InterruptedException {
+        // If one enqueue returns before another starts, the consumer must see them in that order
+        final int rounds = 20_000;
+        MpscQueue<Integer> queue = new MpscQueue<>();
+        AtomicInteger handoff = new AtomicInteger(-1);
+        
+        Thread first = new Thread(() -> {
+            for (int r = 0; r < rounds; r++) {
+                queue.enqueue(2 * r);
+                handoff.set(r);
+            }
+        });
+        Thread second = new Thread(() -> {
+            for (int r = 0; r < rounds; r++) {
+                while (handoff.get() < r) {
+                    Thread.onSpinWait();
+                }
+                queue.enqueue(2 * r + 1);
+            }
+        });
+        first.start();
+        second.start();
+        
+        int[] position = new int[2 * rounds];
+        int received = 0;
+        while (received < 2 * rounds) {
+            Integer item = queue.poll();
+            if (item != null) {
+                position[item] = received++;
+            }
+        }
+        first.join();
+        second.join();
+        
+        for (int r = 0; r < rounds; r++) {
+            assertTrue("An enqueue that completed first should be dequeued first",
+                       position[2 * r] < position[2 * r + 1]);
+        }
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
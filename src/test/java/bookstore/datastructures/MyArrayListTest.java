@@ -58,4 +58,17 @@ public class MyArrayListTest {
         
         list.set(1, "Two"); // This should throw an exception
     }
-} 
\ No newline at end of file
+    
+    @Test
+    public void testToArray() {
+        list.add("One");
+        list.add("Two");
+        
+        Object[] array = list.toArray();
+        assertEquals("Array should have the list's size", 2, array.length);
+        assertEquals("Second element should be 'Two'", "Two", array[1]);
+        
+        array[0] = "Changed";
+        assertEquals("List should not share the array", "One", list.get(0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package bookstore.datastructures;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MyBoundedStackTest {
+    
+    @Test
+    public void testPushAndPop() {
+        MyBoundedStack<String> stack = new MyBoundedStack<>(5);
+        
+        stack.push("First");
+        stack.push("Second");
+        stack.push("Third");
+        
+        assertEquals("Size should be 3", 3, stack.size());
+        assertEquals("Top element should be 'Third'", "Third", stack.peek());
+        assertEquals("Popped element should be 'Third'", "Third", stack.pop());
+        assertEquals("Popped element should be 'Second'", "Second", stack.pop());
+        assertEquals("Popped element should be 'First'", "First", stack.pop());
+        assertTrue("Stack should be empty", stack.isEmpty());
+    }
+    
+    @Test
+    public void testOldestEntryEvicted() {
+        MyBoundedStack<Integer> stack = new MyBoundedStack<>(3);
+        
+        for (int i = 1; i <= 10; i++) {
+            stack.push(i);
+        }
+        
+        assertEquals("Size should not exceed max depth", 3, stack.size());
+        assertEquals("Newest element should be on top", Integer.valueOf(10), stack.pop());
+        assertEquals("Elements should pop in LIFO order", Integer.valueOf(9), stack.pop());
+        assertEquals("Oldest kept element should be 8", Integer.valueOf(8), stack.pop());
+        assertTrue("Older elements should have been dropped", stack.isEmpty());
+    }
+    
+    @Test
+    public void testPushAfterPopWhenWrapped() {
+        MyBoundedStack<Integer> stack = new MyBoundedStack<>(3);
+        for (int i = 1; i <= 4; i++) {
+            stack.push(i);   // 1 is evicted, bottom has wrapped
+        }
+        
+        stack.pop();
+        stack.push(5);
+        stack.push(6);   // Full again, 2 is evicted
+        
+        assertEquals("Top should be 6", Integer.valueOf(6), stack.pop());
+        assertEquals("Next should be 5", Integer.valueOf(5), stack.pop());
+        assertEquals("Bottom should be 3", Integer.valueOf(3), stack.pop());
+    }
+    
+    @Test
+    public void testClear() {
+        MyBoundedStack<String> stack = new MyBoundedStack<>(2);
+        stack.push("a");
+        stack.push("b");
+        stack.push("c");
+        
+        stack.clear();
+        
+        assertTrue("Stack should be empty after clear", stack.isEmpty());
+        stack.push("d");
+        assertEquals("Stack should be usable after clear", "d", stack.peek());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testPopEmpty() {
+        MyBoundedStack<String> stack = new MyBoundedStack<>(2);
+        
+        stack.pop();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDepth() {
+        new MyBoundedStack<String>(0);
+    }
+}
@@ -0,0 +1,146 @@
+package bookstore.datastructures;
+
+import bookstore.model.Book;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MyConcurrentSkipListTest {
+    
+    @Test
+    public void testMatchesSortedList() {
+        Random random = new Random(42);
+        MyConcurrentSkipList<Integer> list = new MyConcurrentSkipList<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(2000);
+            list.insert(value);
+            expected.add(value);
+        }
+        Collections.sort(expected);
+        
+        assertEquals("Size should count every insert", 5000, list.size());
+        MyArrayList<Integer> all = list.toList();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Element " + i + " should match", expected.get(i), all.get(i));
+        }
+        for (int value = -1; value <= 2000; value++) {
+            assertEquals("contains(" + value + ") should match", expected.contains(value), list.contains(value));
+        }
+    }
+    
+    @Test
+    public void testRangeAndScan() {
+        MyConcurrentSkipList<Integer> list = new MyConcurrentSkipList<>(Comparator.naturalOrder());
+        for (int i = 99; i >= 0; i -= 2) {
+            list.insert(i);   // Odd numbers 1..99
+        }
+        
+        MyArrayList<Integer> range = list.range(10, 20, Integer.MAX_VALUE);
+        assertEquals("Range should hold 11, 13, 15, 17 and 19", 5, range.size());
+        assertEquals(Integer.valueOf(11), range.get(0));
+        assertEquals(Integer.valueOf(19), range.get(4));
+        assertEquals("Limit should cap the range", 2, list.range(10, 20, 2).size());
+        assertTrue("Empty range should return nothing", list.range(20, 10, 10).isEmpty());
+        assertTrue("Range past the end should return nothing", list.range(100, 200, 10).isEmpty());
+        
+        MyArrayList<Integer> scanned = list.scan(50, value -> value < 60, 100);
+        assertEquals("Scan should stop at the first failing element", 5, scanned.size());
+        assertEquals(Integer.valueOf(51), scanned.get(0));
+    }
+    
+    @Test
+    public void testTitlePrefixAndEqualElements() {
+        MyConcurrentSkipList<Book> list = new MyConcurrentSkipList<>(Book.BY_TITLE);
+        Book first = new Book("Harry Potter", "Author 1", "ISBN1", 10.0, 1);
+        Book second = new Book("harry potter", "Author 2", "ISBN2", 12.0, 1);
+        list.insert(new Book("The Hobbit", "Author 3", "ISBN3", 9.0, 1));
+        list.insert(first);
+        list.insert(new Book("Hamlet", "Author 4", "ISBN4", 8.0, 1));
+        list.insert(second);
+        list.insert(new Book("1984", "Author 5", "ISBN5", 7.0, 1));
+        
+        Book probe = new Book("HARRY", "", "", 0.0, 0);
+        MyArrayList<Book> matches = list.scan(probe, book -> book.getTitle().regionMatches(true, 0, "HARRY", 0, 5), 10);
+        assertEquals("Both Harry Potter books should match", 2, matches.size());
+        assertSame("Equal titles should keep insertion order", first, matches.get(0));
+        assertSame("Equal titles should keep insertion order", second, matches.get(1));
+        assertSame("find should return the first equal element", first, list.find(new Book("HARRY POTTER", "", "", 0.0, 0)));
+        assertNull("Missing title should not be found", list.find(new Book("Dune", "", "", 0.0, 0)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInsertNull() {
+        new MyConcurrentSkipList<String>(Comparator.naturalOrder()).insert(null);
+    }
+    
+    @Test(timeout = 60000)
+    public void testConcurrentWritersAndReaders() throws InterruptedException {
+        final int writers = 4;
+        final int perWriter = 50_000;
+        MyConcurrentSkipList<Integer> list = new MyConcurrentSkipList<>(Comparator.naturalOrder());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(writers);
+        AtomicReference<String> readerFailure = new AtomicReference<>();
+        Thread[] threads = new Thread[writers + 2];
+        
+        for (int w = 0; w < writers; w++) {
+            final int id = w;
+            threads[w] = new Thread(() -> {
+                awaitQuietly(start);
+                // Writers interleave their keys so they keep racing for the same neighbours
+                for (int i = 0; i < perWriter; i++) {
+                    list.insert(i * writers + id);
+                }
+                writersDone.countDown();
+            });
+        }
+        for (int r = writers; r < threads.length; r++) {
+            final long seed = r;
+            threads[r] = new Thread(() -> {
+                Random random = new Random(seed);
+                awaitQuietly(start);
+                while (writersDone.getCount() > 0 && readerFailure.get() == null) {
+                    int from = random.nextInt(writers * perWriter);
+                    MyArrayList<Integer> range = list.range(from, from + 1000, Integer.MAX_VALUE);
+                    for (int i = 0; i < range.size(); i++) {
+                        int value = range.get(i);
+                        if (value < from || value > from + 1000 || (i > 0 && value <= range.get(i - 1))) {
+                            readerFailure.compareAndSet(null, "Range from " + from + " was out of order at " + value);
+                        }
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertNull(readerFailure.get(), readerFailure.get());
+        assertEquals("Every insert should be counted", writers * perWriter, list.size());
+        MyArrayList<Integer> all = list.toList();
+        assertEquals("Every insert should be linked", writers * perWriter, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals("Each key should appear exactly once, in order", Integer.valueOf(i), all.get(i));
+        }
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
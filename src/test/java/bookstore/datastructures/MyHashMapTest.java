@@ -0,0 +1,117 @@
+package bookstore.datastructures;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MyHashMapTest {
+    
+    @Test
+    public void testPutAndGet() {
+        MyHashMap<String, Integer> map = new MyHashMap<>();
+        
+        assertNull("Put on new key should return null", map.put("one", 1));
+        map.put("two", 2);
+        map.put("three", 3);
+        
+        assertEquals("Size should be 3", 3, map.size());
+        assertEquals("Value for 'two' should be 2", Integer.valueOf(2), map.get("two"));
+        assertNull("Missing key should return null", map.get("four"));
+        
+        assertEquals("Replacing should return old value", Integer.valueOf(1), map.put("one", 10));
+        assertEquals("Value should be replaced", Integer.valueOf(10), map.get("one"));
+        assertEquals("Size should not change on replace", 3, map.size());
+    }
+    
+    @Test
+    public void testResize() {
+        MyHashMap<Integer, String> map = new MyHashMap<>();
+        
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, "v" + i);
+        }
+        
+        assertEquals("Size should be 10000", 10000, map.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals("Value should survive resize", "v" + i, map.get(i));
+        }
+        assertFalse("Key outside range should not be present", map.containsKey(10000));
+    }
+    
+    @Test
+    public void testRemove() {
+        MyHashMap<Integer, Integer> map = new MyHashMap<>();
+        
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i * i);
+        }
+        
+        // Remove every other key so probe runs get broken up
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals("Remove should return value", Integer.valueOf(i * i), map.remove(i));
+        }
+        
+        assertEquals("Size should be 500", 500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            if (i % 2 == 0) {
+                assertFalse("Removed key should be gone", map.containsKey(i));
+            } else {
+                assertEquals("Remaining key should still be found", Integer.valueOf(i * i), map.get(i));
+            }
+        }
+        
+        assertNull("Removing missing key should return null", map.remove(0));
+    }
+    
+    @Test
+    public void testCollidingKeys() {
+        MyHashMap<CollidingKey, String> map = new MyHashMap<>();
+        
+        for (int i = 0; i < 50; i++) {
+            map.put(new CollidingKey(i), "v" + i);
+        }
+        map.remove(new CollidingKey(0));
+        map.remove(new CollidingKey(25));
+        
+        assertEquals("Size should be 48", 48, map.size());
+        assertNull("Removed key should be gone", map.get(new CollidingKey(25)));
+        assertEquals("Key after removed one should still be found", "v49", map.get(new CollidingKey(49)));
+    }
+    
+    @Test
+    public void testClear() {
+        MyHashMap<String, String> map = new MyHashMap<>();
+        map.put("a", "1");
+        map.put("b", "2");
+        
+        map.clear();
+        
+        assertTrue("Map should be empty after clear", map.isEmpty());
+        assertNull("Cleared key should be gone", map.get("a"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullKey() {
+        MyHashMap<String, String> map = new MyHashMap<>();
+        
+        map.put(null, "value");
+    }
+    
+    // Key type whose instances all share the same hash code
+    private static class CollidingKey {
+        private final int id;
+        
+        CollidingKey(int id) {
+            this.id = id;
+        }
+        
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).id == id;
+        }
+    }
+}
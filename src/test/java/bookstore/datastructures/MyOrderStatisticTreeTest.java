@@ -0,0 +1,129 @@
+package bookstore.datastructures;
+
+import bookstore.model.Book;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MyOrderStatisticTreeTest {
+    
+    @Test
+    public void testInsertSelectAndRank() {
+        MyOrderStatisticTree<Integer> tree = new MyOrderStatisticTree<>(Comparator.naturalOrder());
+        int[] values = {50, 20, 80, 10, 30, 70, 90, 30};
+        for (int value : values) {
+            tree.insert(value);
+        }
+        
+        assertEquals("Tree should hold every value", 8, tree.size());
+        assertEquals("Smallest value should be first", Integer.valueOf(10), tree.select(0));
+        assertEquals("Duplicates should sit next to each other", Integer.valueOf(30), tree.select(3));
+        assertEquals("Largest value should be last", Integer.valueOf(90), tree.select(7));
+        assertEquals("Rank should count smaller values", 2, tree.rank(30));
+        assertEquals("Rank of a missing value should be its insertion point", 4, tree.rank(45));
+        assertEquals("Rank past the end should be the size", 8, tree.rank(100));
+    }
+    
+    @Test
+    public void testMatchesSortedListUnderRandomUpdates() {
+        Random random = new Random(42);
+        MyOrderStatisticTree<Integer> tree = new MyOrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                boolean removed = expected.remove(Integer.valueOf(value));
+                assertEquals("Remove should report whether " + value + " was present", removed, tree.remove(value));
+            } else {
+                int position = 0;
+                while (position < expected.size() && expected.get(position) <= value) {
+                    position++;
+                }
+                expected.add(position, value);
+                tree.insert(value);
+            }
+        }
+        
+        assertEquals("Sizes should match", expected.size(), tree.size());
+        MyArrayList<Integer> all = tree.toList();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Element " + i + " should match", expected.get(i), all.get(i));
+            assertEquals("select(" + i + ") should match", expected.get(i), tree.select(i));
+        }
+    }
+    
+    @Test
+    public void testRangePages() {
+        MyOrderStatisticTree<Integer> tree = new MyOrderStatisticTree<>(Comparator.naturalOrder());
+        for (int i = 99; i >= 0; i--) {
+            tree.insert(i);
+        }
+        
+        MyArrayList<Integer> page = tree.range(40, 50);
+        assertEquals("Page should hold 10 elements", 10, page.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Page should be in order", Integer.valueOf(40 + i), page.get(i));
+        }
+        assertTrue("Empty range should return nothing", tree.range(100, 100).isEmpty());
+        assertEquals("Last page can be short", 5, tree.range(95, 100).size());
+    }
+    
+    @Test
+    public void testEqualBooksKeepInsertionOrderAndRemoveByIdentity() {
+        Book first = new Book("Same Title", "Author 1", "ISBN1", 10.0, 1);
+        Book second = new Book("Same Title", "Author 2", "ISBN2", 12.0, 1);
+        Book third = new Book("Same Title", "Author 3", "ISBN3", 14.0, 1);
+        MyOrderStatisticTree<Book> tree = new MyOrderStatisticTree<>(Book.BY_TITLE);
+        tree.insert(first);
+        tree.insert(second);
+        tree.insert(third);
+        
+        assertSame("Equal titles should keep insertion order", second, tree.select(1));
+        assertTrue("Middle book should be removed", tree.remove(second));
+        assertSame("Other books should remain in order", first, tree.select(0));
+        assertSame("Other books should remain in order", third, tree.select(1));
+        assertFalse("Book not in the tree should not be removed",
+                    tree.remove(new Book("Same Title", "Author 4", "ISBN4", 1.0, 1)));
+    }
+    
+    @Test
+    public void testRemoveTakesOneOfManyTiedCopies() {
+        Random random = new Random(24);
+        Book copy = new Book("Copy", "Author", "ISBN0", 10.0, 1);
+        for (int run = 0; run < 200; run++) {
+            // Every book ties under the comparator, but only copy equals copy
+            MyOrderStatisticTree<Book> tree = new MyOrderStatisticTree<>((a, b) -> 0);
+            int copies = 0;
+            for (int i = 0; i < 50; i++) {
+                if ((copies < 10 && random.nextInt(5) == 0) || 50 - i == 10 - copies) {
+                    tree.insert(copy);
+                    copies++;
+                } else {
+                    tree.insert(new Book("Other " + i, "Author", "ISBN" + (i + 1), 10.0, 1));
+                }
+            }
+            
+            assertTrue("Copy should be removed", tree.remove(copy));
+            assertEquals("Exactly one element should be removed", 49, tree.size());
+            int remaining = 0;
+            for (int i = 0; i < tree.size(); i++) {
+                if (tree.select(i) == copy) {
+                    remaining++;
+                }
+            }
+            assertEquals("Exactly one copy should be removed", 9, remaining);
+        }
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfBounds() {
+        MyOrderStatisticTree<Integer> tree = new MyOrderStatisticTree<>(Comparator.naturalOrder());
+        tree.insert(1);
+        
+        tree.select(1); // This should throw an exception
+    }
+}
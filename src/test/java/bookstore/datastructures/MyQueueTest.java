@@ -52,4 +52,79 @@ public class MyQueueTest {
         
         queue.peek();
     }
-} 
\ No newline at end of file
+    
+    @Test
+    public void testWrapAroundAndGrow() {
+        MyQueue<Integer> queue = new MyQueue<>(4);
+        
+        // Move the head forward so later elements wrap around the array
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(i);
+        }
+        queue.dequeue();
+        queue.dequeue();
+        for (int i = 3; i < 20; i++) {
+            queue.enqueue(i);
+        }
+        
+        assertEquals("Size should be 18", 18, queue.size());
+        for (int i = 2; i < 20; i++) {
+            assertEquals("Elements should come out in FIFO order", Integer.valueOf(i), queue.dequeue());
+        }
+        assertTrue("Queue should be empty", queue.isEmpty());
+    }
+    
+    @Test
+    public void testFixedCapacityThrow() {
+        MyQueue<String> queue = new MyQueue<>(2, MyQueue.RejectionPolicy.THROW);
+        queue.enqueue("First");
+        queue.enqueue("Second");
+        
+        assertFalse("Offer should be rejected when full", queue.offer("Third"));
+        try {
+            queue.enqueue("Third");
+            fail("Enqueue should throw when full");
+        } catch (IllegalStateException e) {
+            assertEquals("Queue should still hold 2 elements", 2, queue.size());
+        }
+    }
+    
+    @Test
+    public void testFixedCapacityDiscard() {
+        MyQueue<Integer> newest = new MyQueue<>(3, MyQueue.RejectionPolicy.DISCARD_NEWEST);
+        MyQueue<Integer> oldest = new MyQueue<>(3, MyQueue.RejectionPolicy.DISCARD_OLDEST);
+        
+        for (int i = 1; i <= 5; i++) {
+            newest.enqueue(i);
+            oldest.enqueue(i);
+        }
+        
+        assertEquals("Capacity should be respected", 3, newest.size());
+        assertEquals("DISCARD_NEWEST should keep the first elements", Integer.valueOf(1), newest.peek());
+        assertEquals("Capacity should be respected", 3, oldest.size());
+        assertEquals("DISCARD_OLDEST should keep the last elements", Integer.valueOf(3), oldest.peek());
+    }
+    
+    @Test
+    public void testDrainTo() {
+        MyQueue<Integer> queue = new MyQueue<>(8);
+        for (int i = 0; i < 6; i++) {
+            queue.enqueue(i);
+        }
+        queue.dequeue();
+        queue.dequeue();
+        for (int i = 6; i < 10; i++) {
+            queue.enqueue(i);   // Wraps around the end of the array
+        }
+        
+        MyArrayList<Integer> drained = new MyArrayList<>();
+        assertEquals("Should drain up to max elements", 5, queue.drainTo(drained, 5));
+        assertEquals("Should drain the rest", 3, queue.drainTo(drained, 100));
+        
+        assertEquals("All elements should be drained", 8, drained.size());
+        for (int i = 0; i < 8; i++) {
+            assertEquals("Drained elements should keep FIFO order", Integer.valueOf(i + 2), drained.get(i));
+        }
+        assertTrue("Queue should be empty after draining", queue.isEmpty());
+    }
+}
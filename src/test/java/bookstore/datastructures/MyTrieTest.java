@@ -0,0 +1,112 @@
+package bookstore.datastructures;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MyTrieTest {
+    
+    @Test
+    public void testPrefixLookupIsSorted() {
+        MyTrie<String> trie = new MyTrie<>();
+        trie.insert("The Hobbit", "hobbit");
+        trie.insert("The Great Gatsby", "gatsby");
+        trie.insert("the catcher in the rye", "catcher");
+        trie.insert("Dune", "dune");
+        trie.insert("The Grapes of Wrath", "grapes");
+        
+        MyArrayList<String> result = trie.findByPrefix("the g", 10);
+        assertEquals("Should find 2 titles starting with 'the g'", 2, result.size());
+        assertEquals("Results should be in title order", "grapes", result.get(0));
+        assertEquals("Results should be in title order", "gatsby", result.get(1));
+        
+        result = trie.findByPrefix("THE", 10);
+        assertEquals("Prefix should match case-insensitively", 4, result.size());
+        assertEquals("First result should be 'the catcher in the rye'", "catcher", result.get(0));
+        assertEquals("Last result should be 'The Hobbit'", "hobbit", result.get(3));
+    }
+    
+    @Test
+    public void testPrefixEndingInsideEdge() {
+        MyTrie<String> trie = new MyTrie<>();
+        trie.insert("Foundation", "foundation");
+        trie.insert("Foundation and Empire", "empire");
+        
+        MyArrayList<String> result = trie.findByPrefix("Found", 10);
+        assertEquals("Should find both titles", 2, result.size());
+        assertEquals("Shorter key should come first", "foundation", result.get(0));
+        
+        assertTrue("Prefix not in trie should return empty list", trie.findByPrefix("Foundry", 10).isEmpty());
+        assertTrue("Prefix longer than any key should return empty list",
+                   trie.findByPrefix("Foundation and Empire Strikes", 10).isEmpty());
+    }
+    
+    @Test
+    public void testLimit() {
+        MyTrie<Integer> trie = new MyTrie<>();
+        for (int i = 0; i < 100; i++) {
+            trie.insert("Book " + (100 + i), i);
+        }
+        
+        MyArrayList<Integer> result = trie.findByPrefix("book", 5);
+        assertEquals("Should return at most 5 values", 5, result.size());
+        assertEquals("First value should have the smallest key", Integer.valueOf(0), result.get(0));
+        assertEquals("Values should be in key order", Integer.valueOf(4), result.get(4));
+    }
+    
+    @Test
+    public void testDuplicateKeysAndRemove() {
+        MyTrie<String> trie = new MyTrie<>();
+        trie.insert("Emma", "first");
+        trie.insert("emma", "second");
+        trie.insert("Emmanuel", "third");
+        
+        assertEquals("Size should count every value", 3, trie.size());
+        assertEquals("Both values under 'emma' should be found", 3, trie.findByPrefix("emma", 10).size());
+        
+        assertTrue("Stored value should be removed", trie.remove("EMMA", "first"));
+        assertFalse("Missing value should not be removed", trie.remove("emma", "first"));
+        assertEquals("Size should be 2 after removal", 2, trie.size());
+        assertTrue("Key with remaining value should still exist", trie.containsKey("Emma"));
+        
+        trie.remove("emma", "second");
+        assertFalse("Key without values should be gone", trie.containsKey("emma"));
+        assertTrue("Longer key should survive", trie.containsKey("emmanuel"));
+    }
+    
+    @Test
+    public void testRemoveKeepsTreeCompressed() {
+        MyTrie<String> trie = new MyTrie<>();
+        trie.insert("test", "test");
+        trie.insert("team", "team");
+        assertEquals("Shared prefix should be split into te -> {am, st}", 3, trie.nodeCount());
+        
+        trie.remove("team", "team");
+        assertEquals("Bare link should be merged back into its only child", 1, trie.nodeCount());
+        assertEquals("Remaining key should still be found", "test", trie.findByPrefix("te", 10).get(0));
+        
+        trie.insert("a", "a");
+        trie.insert("ab", "ab");
+        trie.insert("abc", "abc");
+        trie.remove("ab", "ab");
+        assertEquals("Node without values should merge with its only child", 3, trie.nodeCount());
+        assertTrue("Key below the merged node should survive", trie.containsKey("abc"));
+        
+        trie.remove("abc", "abc");
+        trie.remove("test", "test");
+        assertEquals("Empty leaves should be pruned", 1, trie.nodeCount());
+        assertEquals("Only a should remain", 1, trie.findByPrefix("", 10).size());
+    }
+    
+    @Test
+    public void testEmptyTrie() {
+        MyTrie<String> trie = new MyTrie<>();
+        
+        assertTrue("New trie should be empty", trie.isEmpty());
+        assertTrue("Lookup on empty trie should return empty list", trie.findByPrefix("a", 10).isEmpty());
+        
+        trie.insert("a", "a");
+        trie.clear();
+        assertTrue("Trie should be empty after clear", trie.isEmpty());
+        assertFalse("Cleared key should be gone", trie.containsKey("a"));
+    }
+}
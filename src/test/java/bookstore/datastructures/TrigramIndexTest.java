@@ -0,0 +1,77 @@
+package bookstore.datastructures;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TrigramIndexTest {
+    
+    @Test
+    public void testSubstringSearch() {
+        TrigramIndex<String> index = createIndex("The Great Gatsby", "Great Expectations", "Gone Girl", "The Grapes of Wrath");
+        
+        MyArrayList<String> result = index.search("great");
+        assertEquals("Should find 2 titles containing 'great'", 2, result.size());
+        assertEquals("Results should be in insertion order", "The Great Gatsby", result.get(0));
+        assertEquals("Results should be in insertion order", "Great Expectations", result.get(1));
+        
+        assertEquals("Search should ignore case", 1, index.search("OF WRATH").size());
+        assertTrue("Absent text should return empty list", index.search("hobbit").isEmpty());
+    }
+    
+    @Test
+    public void testCandidatesAreVerified() {
+        // Both titles contain the trigrams "abc" and "bcd", but only one contains "abcd"
+        TrigramIndex<String> index = createIndex("xabcx bcdx", "zabcdz");
+        
+        assertEquals("Both rows share every trigram of the query", 2, index.candidateCount("abcd"));
+        MyArrayList<String> result = index.search("abcd");
+        assertEquals("Only the real match should survive verification", 1, result.size());
+        assertEquals("zabcdz", result.get(0));
+    }
+    
+    @Test
+    public void testShortQueries() {
+        TrigramIndex<String> index = createIndex("1984", "Dune", "It");
+        
+        assertEquals("Two-character query should scan all rows", 1, index.search("IT").size());
+        assertEquals("Empty query should match every row", 3, index.search("").size());
+    }
+    
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(7);
+        String alphabet = "abcde ";
+        TrigramIndex<String> index = new TrigramIndex<>(s -> s);
+        MyArrayList<String> rows = new MyArrayList<>();
+        
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < 12; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            rows.add(sb.toString());
+            index.add(sb.toString());
+        }
+        index.trimToSize();
+        
+        for (int q = 0; q < 200; q++) {
+            String query = rows.get(random.nextInt(rows.size())).substring(2, 3 + random.nextInt(6));
+            int expected = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                if (rows.get(i).contains(query)) {
+                    expected++;
+                }
+            }
+            assertEquals("Index should agree with a linear scan for '" + query + "'", expected, index.search(query).size());
+        }
+    }
+    
+    private TrigramIndex<String> createIndex(String... rows) {
+        TrigramIndex<String> index = new TrigramIndex<>(s -> s);
+        for (String row : rows) {
+            index.add(row);
+        }
+        return index;
+    }
+}
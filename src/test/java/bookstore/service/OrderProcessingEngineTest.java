@@ -0,0 +1,126 @@
+package bookstore.service;
+
+import bookstore.datastructures.MpscQueue;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import bookstore.model.Order;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class OrderProcessingEngineTest {
+    
+    @Test
+    public void testProcessesOrdersAndUpdatesStock() {
+        Book book1 = new Book("Book 1", "Author 1", "ISBN1", 10.0, 5);
+        Book book2 = new Book("Book 2", "Author 2", "ISBN2", 15.0, 10);
+        MpscQueue<Order> pending = new MpscQueue<>();
+        MyArrayList<Order> processed = new MyArrayList<>();
+        
+        Order order = new Order("Customer 1", "Address 1");
+        order.addBook(book1, 2);
+        order.addBook(book2, 3);
+        pending.enqueue(order);
+        
+        OrderProcessingEngine engine = new OrderProcessingEngine(pending, processed, 2);
+        OrderProcessingEngine.Report report = engine.processAll();
+        engine.shutdown();
+        
+        assertEquals("One order should be processed", 1, report.getOrdersProcessed());
+        assertTrue("Queue should be empty", pending.isEmpty());
+        assertEquals("Order should be appended to processed list", 1, processed.size());
+        assertEquals("Order should be marked processed", OrderProcessingEngine.STATUS_PROCESSED, order.getStatus());
+        assertEquals("Stock of Book 1 should drop by 2", 3, book1.getQuantityInStock());
+        assertEquals("Stock of Book 2 should drop by 3", 7, book2.getQuantityInStock());
+    }
+    
+    @Test
+    public void testRejectedOrderLeavesStockUntouched() {
+        Book book1 = new Book("Book 1", "Author 1", "ISBN1", 10.0, 5);
+        Book book2 = new Book("Book 2", "Author 2", "ISBN2", 15.0, 1);
+        MpscQueue<Order> pending = new MpscQueue<>();
+        MyArrayList<Order> processed = new MyArrayList<>();
+        
+        Order order = new Order("Customer 1", "Address 1");
+        order.addBook(book1, 2);
+        order.addBook(book2, 3);   // Only 1 in stock
+        pending.enqueue(order);
+        
+        OrderProcessingEngine engine = new OrderProcessingEngine(pending, processed, 1);
+        OrderProcessingEngine.Report report = engine.processAll();
+        engine.shutdown();
+        
+        assertEquals("Order should be rejected", 1, report.getOrdersRejected());
+        assertEquals("Order should be marked rejected", OrderProcessingEngine.STATUS_REJECTED, order.getStatus());
+        assertEquals("First line should be rolled back", 5, book1.getQuantityInStock());
+        assertEquals("Second line should be untouched", 1, book2.getQuantityInStock());
+    }
+    
+    @Test
+    public void testPartiallyReservedOrderTakesStockOnce() {
+        Book book1 = new Book("Book 1", "Author 1", "ISBN1", 10.0, 5);
+        Book book2 = new Book("Book 2", "Author 2", "ISBN2", 15.0, 10);
+        MpscQueue<Order> pending = new MpscQueue<>();
+        MyArrayList<Order> processed = new MyArrayList<>();
+        StockReservations reservations = new StockReservations();
+        
+        Order order = new Order("Customer 1", "Address 1");
+        order.addBook(book1, 2);
+        order.addBook(book2, 3);
+        assertTrue("First line should be held", reservations.reserve(order, book1, 2));
+        pending.enqueue(order);
+        
+        OrderProcessingEngine engine = new OrderProcessingEngine(pending, processed, reservations, 1);
+        OrderProcessingEngine.Report report = engine.processAll();
+        engine.shutdown();
+        
+        assertEquals("Order should be processed", 1, report.getOrdersProcessed());
+        assertEquals("Held line should be taken out of stock once", 3, book1.getQuantityInStock());
+        assertEquals("Unheld line should be taken out of stock", 7, book2.getQuantityInStock());
+        assertEquals("No hold should remain for Book 1", 0, reservations.getReserved("ISBN1"));
+    }
+    
+    @Test(timeout = 60000)
+    public void testManyWorkersNeverOversell() {
+        final int books = 8;
+        final int stockPerBook = 1000;
+        final int orders = 20_000;
+        Book[] inventory = new Book[books];
+        for (int i = 0; i < books; i++) {
+            inventory[i] = new Book("Book " + i, "Author", "ISBN" + i, 10.0, stockPerBook);
+        }
+        
+        MpscQueue<Order> pending = new MpscQueue<>();
+        for (int i = 0; i < orders; i++) {
+            Order order = new Order("Customer " + i, "Address");
+            order.addBook(inventory[i % books], 1);
+            order.addBook(inventory[(i * 7 + 3) % books], 1 + i % 2);
+            pending.enqueue(order);
+        }
+        
+        MyArrayList<Order> processed = new MyArrayList<>();
+        OrderProcessingEngine engine = new OrderProcessingEngine(pending, processed, 8, 64);
+        OrderProcessingEngine.Report report = engine.processAll();
+        engine.shutdown();
+        
+        assertEquals("Every order should be handled", orders, report.getOrdersProcessed() + report.getOrdersRejected());
+        assertEquals("Every order should be appended", orders, processed.size());
+        
+        // Copies taken by processed orders must match the stock that disappeared
+        long taken = 0;
+        for (int i = 0; i < processed.size(); i++) {
+            Order order = processed.get(i);
+            if (OrderProcessingEngine.STATUS_PROCESSED.equals(order.getStatus())) {
+                for (int line = 0; line < order.getQuantities().size(); line++) {
+                    taken += order.getQuantities().get(line);
+                }
+            }
+        }
+        long remaining = 0;
+        for (Book book : inventory) {
+            assertTrue("Stock should never go negative", book.getQuantityInStock() >= 0);
+            remaining += book.getQuantityInStock();
+        }
+        assertEquals("Stock should be conserved", (long) books * stockPerBook, taken + remaining);
+        assertTrue("Throughput should be reported", report.getThroughputPerSecond() > 0);
+    }
+}
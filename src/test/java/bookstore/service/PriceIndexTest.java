@@ -0,0 +1,149 @@
+package bookstore.service;
+
+import bookstore.algorithms.SearchingAlgorithms;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PriceIndexTest {
+    
+    private static MyArrayList<Book> createCatalog() {
+        MyArrayList<Book> catalog = new MyArrayList<>();
+        catalog.add(new Book("Book 1", "Author 1", "ISBN1", 12.99, 5));
+        catalog.add(new Book("Book 2", "Author 2", "ISBN2", 9.99, 5));
+        catalog.add(new Book("Book 3", "Author 3", "ISBN3", 12.99, 5));
+        catalog.add(new Book("Book 4", "Author 4", "ISBN4", 20.00, 5));
+        catalog.add(new Book("Book 5", "Author 5", "ISBN5", 0.0, 5));
+        return catalog;
+    }
+    
+    @Test
+    public void testRangeIsInclusiveAndSortedByPrice() {
+        PriceIndex index = new PriceIndex(createCatalog());
+        
+        MyArrayList<Book> result = index.range(9.99, 12.99);
+        assertEquals("Both ends should be included", 3, result.size());
+        assertEquals("Cheapest should come first", "Book 2", result.get(0).getTitle());
+        assertEquals("Equal prices should keep catalog order", "Book 1", result.get(1).getTitle());
+        assertEquals("Equal prices should keep catalog order", "Book 3", result.get(2).getTitle());
+        
+        assertEquals("Range between prices should be empty", 0, index.count(13.00, 19.99));
+        assertEquals("Reversed range should be empty", 0, index.count(20.00, 10.00));
+        assertEquals("Negative minimum should include free books", 5, index.count(-5.0, 100.0));
+        assertEquals("Fractional cents should not widen the range", 0, index.count(12.991, 19.999));
+    }
+    
+    @Test
+    public void testPaging() {
+        PriceIndex index = new PriceIndex(createCatalog());
+        
+        MyArrayList<Book> first = index.page(0.0, 100.0, 0, 2);
+        MyArrayList<Book> second = index.page(0.0, 100.0, 2, 2);
+        MyArrayList<Book> last = index.page(0.0, 100.0, 4, 2);
+        assertEquals("First page should be full", 2, first.size());
+        assertEquals("First page should start with the cheapest", "Book 5", first.get(0).getTitle());
+        assertEquals("Second page should continue in price order", "Book 1", second.get(0).getTitle());
+        assertEquals("Last page should hold the remainder", 1, last.size());
+        assertEquals("Last page should end with the most expensive", "Book 4", last.get(0).getTitle());
+        assertTrue("Page past the end should be empty", index.page(0.0, 100.0, 10, 2).isEmpty());
+    }
+    
+    @Test
+    public void testAddAndReprice() {
+        MyArrayList<Book> catalog = createCatalog();
+        PriceIndex index = new PriceIndex(catalog);
+        
+        catalog.add(new Book("Book 6", "Author 6", "ISBN6", 10.50, 5));
+        index.add(catalog.size() - 1);
+        assertEquals("Added book should be indexed", 6, index.size());
+        assertEquals("Added book should be found", "Book 6", index.range(10.00, 11.00).get(0).getTitle());
+        
+        Book original = catalog.get(3);
+        index.reprice(3, 11.25);
+        assertEquals("Book should be repriced", 11.25, catalog.get(3).getPrice(), 0.0);
+        assertSame("Book should be repriced in place", original, catalog.get(3));
+        assertEquals("Old price should no longer match", 0, index.count(20.00, 20.00));
+        MyArrayList<Book> result = index.range(10.00, 12.00);
+        assertEquals("Repriced book should move to its new price", 2, result.size());
+        assertEquals("Repriced book should sort after cheaper books", "Book 4", result.get(1).getTitle());
+    }
+    
+    @Test
+    public void testMatchesScanOnRandomCatalog() {
+        Random random = new Random(42);
+        MyArrayList<Book> catalog = new MyArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            catalog.add(new Book("Book " + i, "Author", "ISBN" + i, random.nextInt(5000) / 100.0, 1));
+        }
+        PriceIndex index = new PriceIndex(catalog);
+        for (int i = 0; i < 200; i++) {
+            index.reprice(random.nextInt(catalog.size()), random.nextInt(5000) / 100.0);
+        }
+        
+        for (int i = 0; i < 100; i++) {
+            int minCents = random.nextInt(5000);
+            double min = minCents / 100.0;
+            double max = (minCents + random.nextInt(500)) / 100.0;
+            int expected = 0;
+            for (int row = 0; row < catalog.size(); row++) {
+                double price = catalog.get(row).getPrice();
+                if (price >= min && price <= max) {
+                    expected++;
+                }
+            }
+            assertEquals("Count should match a scan for " + min + " to " + max, expected, index.count(min, max));
+            assertEquals("Range should match count", expected, index.range(min, max).size());
+        }
+    }
+    
+    @Test
+    public void testSubCentPricesAreExact() {
+        MyArrayList<Book> catalog = createCatalog();
+        catalog.add(new Book("Book 6", "Author 6", "ISBN6", 12.999, 5));
+        catalog.add(new Book("Book 7", "Author 7", "ISBN7", 12.994, 5));
+        PriceIndex index = new PriceIndex(catalog);
+        
+        assertEquals("Sub-cent price should match itself", "Book 6", index.near(12.999, 0.0).get(0).getTitle());
+        assertEquals("Sub-cent price should not round down", 1, index.count(12.995, 13.00));
+        assertEquals("Sub-cent price should not round up", 1, index.count(12.991, 12.995));
+        assertEquals("Whole cents should not include sub-cent prices", 2, index.count(12.99, 12.99));
+        
+        index.reprice(0, 12.9949);
+        assertEquals("Repriced sub-cent book should keep its exact price", 2, index.count(12.991, 12.995));
+    }
+    
+    @Test
+    public void testNearMatchesScan() {
+        Random random = new Random(7);
+        MyArrayList<Book> catalog = new MyArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double price = random.nextBoolean() ? random.nextInt(5000) / 100.0 : random.nextDouble() * 50;
+            catalog.add(new Book("Book " + i, "Author", "ISBN" + i, price, 1));
+        }
+        PriceIndex index = new PriceIndex(catalog);
+        
+        for (int i = 0; i < 200; i++) {
+            double target = i % 2 == 0 ? catalog.get(random.nextInt(catalog.size())).getPrice() : random.nextDouble() * 50;
+            double tolerance = random.nextInt(4) == 0 ? 0.0 : random.nextInt(300) / 100.0;
+            int expected = SearchingAlgorithms.findBooksByPriceRange(catalog, target, tolerance).size();
+            MyArrayList<Book> result = index.near(target, tolerance);
+            assertEquals("Near should match a scan for " + target + " +/- " + tolerance, expected, result.size());
+            for (int j = 1; j < result.size(); j++) {
+                assertTrue("Results should be sorted by price", result.get(j - 1).getPrice() <= result.get(j).getPrice());
+            }
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativePrice() {
+        PriceIndex index = new PriceIndex(createCatalog());
+        index.reprice(0, -1.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNegativeLimit() {
+        new PriceIndex(createCatalog()).page(0.0, 10.0, 0, -1);
+    }
+}
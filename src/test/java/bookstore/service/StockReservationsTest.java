@@ -0,0 +1,174 @@
+package bookstore.service;
+
+import bookstore.datastructures.MpscQueue;
+import bookstore.datastructures.MyArrayList;
+import bookstore.model.Book;
+import bookstore.model.Order;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class StockReservationsTest {
+
+    @Test
+    public void testReserveTakesStockAndCommitKeepsIt() {
+        Book book = new Book("Book 1", "Author 1", "ISBN1", 10.0, 5);
+        Order order = new Order("Customer 1", "Address 1");
+        StockReservations reservations = new StockReservations();
+
+        assertTrue("Reservation should succeed", reservations.reserve(order, book, 3));
+        assertEquals("Reserved copies should leave stock", 2, book.getQuantityInStock());
+        assertEquals("Copies should be counted as reserved", 3, reservations.getReserved("ISBN1"));
+
+        assertEquals("Commit should return held copies", 3, reservations.commit(order, book));
+        assertEquals("Committed copies should stay out of stock", 2, book.getQuantityInStock());
+        assertEquals("Nothing should remain reserved", 0, reservations.getReserved("ISBN1"));
+    }
+
+    @Test
+    public void testReleaseReturnsStockOnlyOnce() {
+        Book book = new Book("Book 1", "Author 1", "ISBN1", 10.0, 5);
+        Order order = new Order("Customer 1", "Address 1");
+        StockReservations reservations = new StockReservations();
+
+        reservations.reserve(order, book, 2);
+        reservations.reserve(order, book, 1);   // Adds to the existing hold
+        assertEquals("Both reservations should be held", 2, book.getQuantityInStock());
+
+        assertEquals("Release should return all held copies", 3, reservations.release(order, book));
+        assertEquals("Stock should be restored", 5, book.getQuantityInStock());
+        assertEquals("Second release should do nothing", 0, reservations.release(order, book));
+        assertEquals("Stock should not be restored twice", 5, book.getQuantityInStock());
+        assertEquals("Commit after release should do nothing", 0, reservations.commit(order, book));
+    }
+
+    @Test
+    public void testReserveFailsWhenNotEnoughStock() {
+        Book book = new Book("Book 1", "Author 1", "ISBN1", 10.0, 2);
+        Order order = new Order("Customer 1", "Address 1");
+        StockReservations reservations = new StockReservations();
+
+        assertFalse("Reservation beyond stock should fail", reservations.reserve(order, book, 3));
+        assertEquals("Stock should be untouched", 2, book.getQuantityInStock());
+        assertEquals("Nothing should be reserved", 0, reservations.getReserved("ISBN1"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReserveRejectsNonPositiveQuantity() {
+        Book book = new Book("Book 1", "Author 1", "ISBN1", 10.0, 2);
+        new StockReservations().reserve(new Order("Customer 1", "Address 1"), book, 0);
+    }
+
+    @Test
+    public void testReserveAllIsAllOrNothing() {
+        Book book1 = new Book("Book 1", "Author 1", "ISBN1", 10.0, 5);
+        Book book2 = new Book("Book 2", "Author 2", "ISBN2", 15.0, 1);
+        StockReservations reservations = new StockReservations();
+
+        Order order = new Order("Customer 1", "Address 1");
+        order.addBook(book1, 2);
+        order.addBook(book2, 3);   // Only 1 in stock
+
+        assertFalse("Order should not be reserved", reservations.reserveAll(order));
+        assertFalse("No hold should remain", reservations.isReserved(order));
+        assertEquals("First line should be released", 5, book1.getQuantityInStock());
+        assertEquals("Second line should be untouched", 1, book2.getQuantityInStock());
+
+        Order smaller = new Order("Customer 2", "Address 2");
+        smaller.addBook(book1, 2);
+        smaller.addBook(book2, 1);
+        assertTrue("Order within stock should be reserved", reservations.reserveAll(smaller));
+        assertTrue("Order should report its holds", reservations.isReserved(smaller));
+        assertEquals("Commit should cover every line", 3, reservations.commitAll(smaller));
+        assertFalse("Committed order should hold nothing", reservations.isReserved(smaller));
+    }
+
+    @Test
+    public void testIsReservedWithRepeatedBook() {
+        Book book = new Book("Book 1", "Author 1", "ISBN1", 10.0, 10);
+        StockReservations reservations = new StockReservations(1);
+
+        Order order = new Order("Customer 1", "Address 1");
+        order.addBook(book, 2);
+        order.addBook(book, 3);
+        reservations.reserve(order, book, 2);
+        assertFalse("Partial hold should not count as reserved", reservations.isReserved(order));
+
+        reservations.reserve(order, book, 3);
+        assertTrue("Hold covering both lines should count as reserved", reservations.isReserved(order));
+        assertEquals("Release should return both lines once", 5, reservations.releaseAll(order));
+        assertEquals("Stock should be restored", 10, book.getQuantityInStock());
+    }
+
+    @Test
+    public void testEngineCommitsReservedOrder() {
+        Book book = new Book("Book 1", "Author 1", "ISBN1", 10.0, 3);
+        StockReservations reservations = new StockReservations();
+        MpscQueue<Order> pending = new MpscQueue<>();
+        MyArrayList<Order> processed = new MyArrayList<>();
+
+        Order order = new Order("Customer 1", "Address 1");
+        order.addBook(book, 3);
+        assertTrue(reservations.reserveAll(order));
+        pending.enqueue(order);
+
+        OrderProcessingEngine engine = new OrderProcessingEngine(pending, processed, reservations, 1);
+        OrderProcessingEngine.Report report = engine.processAll();
+        engine.shutdown();
+
+        assertEquals("Reserved order should be processed", 1, report.getOrdersProcessed());
+        assertEquals("Stock should not be taken twice", 0, book.getQuantityInStock());
+        assertEquals("Hold should be committed", 0, reservations.getReserved("ISBN1"));
+    }
+
+    @Test(timeout = 60000)
+    public void testConcurrentReservationsNeverOversell() throws InterruptedException {
+        final int threads = 16;
+        final int attemptsPerThread = 2000;
+        final int stock = 100;
+        Book hot = new Book("Hot Book", "Author", "HOT", 10.0, stock);
+        Book other = new Book("Other Book", "Author", "OTHER", 10.0, threads * attemptsPerThread);
+        StockReservations reservations = new StockReservations();
+        AtomicInteger committed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    Order order = new Order("Customer " + id, "Address");
+                    order.addBook(other, 1);
+                    order.addBook(hot, 1);
+                    if (!reservations.reserveAll(order)) {
+                        continue;
+                    }
+                    // Keep a quarter of the holds, give the rest back
+                    if ((id + i) % 4 == 0) {
+                        committed.addAndGet(reservations.commitAll(order) / 2);
+                    } else {
+                        reservations.releaseAll(order);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue("Stock should never go negative", hot.getQuantityInStock() >= 0);
+        assertEquals("Committed orders and remaining stock should add up", stock,
+                     committed.get() + hot.getQuantityInStock());
+        assertEquals("No holds should remain", 0, reservations.getReserved("HOT"));
+        assertEquals("Other book should only lose committed copies",
+                     threads * attemptsPerThread - committed.get(), other.getQuantityInStock());
+    }
+}